@@ -0,0 +1,71 @@
+package project.restaurantmanagement.index;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10만 개 매장이 적재된 격자 인덱스의 k-최근접 조회 지연 시간을 측정합니다.
+ * 서울 정도 크기의 영역에 매장을 무작위로 배치합니다.
+ * 매장이 없는 극지방을 최대 반경으로 조회하는 경우(열 범위가 경도 한 바퀴 전체)도 함께 측정합니다.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoGridIndexBenchmark {
+
+    private static final double MIN_LAT = 37.43;
+    private static final double MAX_LAT = 37.70;
+    private static final double MIN_LNG = 126.80;
+    private static final double MAX_LNG = 127.18;
+
+    @Param({"100000"})
+    public int restaurants;
+
+    @Param({"10", "50"})
+    public int limit;
+
+    @Param({"3000"})
+    public int radiusMeters;
+
+    private GeoGridIndex index;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new GeoGridIndex(0.01);
+
+        for (int i = 0; i < restaurants; i++) {
+            index.put(new GeoGridIndex.Entry(i, "restaurant" + i, "seoul",
+                    random.nextDouble(MIN_LAT, MAX_LAT), random.nextDouble(MIN_LNG, MAX_LNG)));
+        }
+
+        queryLatitudes = new double[1024];
+        queryLongitudes = new double[1024];
+        for (int i = 0; i < queryLatitudes.length; i++) {
+            queryLatitudes[i] = random.nextDouble(MIN_LAT, MAX_LAT);
+            queryLongitudes[i] = random.nextDouble(MIN_LNG, MAX_LNG);
+        }
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Match> nearest() {
+        int i = cursor++ & (queryLatitudes.length - 1);
+        return index.nearest(queryLatitudes[i], queryLongitudes[i], radiusMeters, limit);
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Match> nearestInEmptyPolarArea() {
+        int i = cursor++ & (queryLongitudes.length - 1);
+        return index.nearest(89.0, queryLongitudes[i], 50_000, limit);
+    }
+}
@@ -0,0 +1,96 @@
+package project.restaurantmanagement.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import project.restaurantmanagement.model.type.UserType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 경로(TokenProvider, JwtAuthenticationFilter)의 처리량과 할당률을 측정합니다.
+ * 검증 캐시를 켠 경우와 끈 경우를 함께 비교합니다.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final String SECRET = "ZGF5b25lLXNwcmluZy1ib290LWRpdmlkZW5kLXByb2plY3QtdHV0b3JpYWwtand0LXNlY3JldC1rZXkK";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private TokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", cacheEnabled);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 10_000);
+
+        tokenProvider = new TokenProvider(verifiedTokenCache);
+        ReflectionTestUtils.setField(tokenProvider, "secretKey", SECRET);
+        tokenProvider.init();
+
+        // stateless 모드에서는 사용자 서비스를 호출하지 않습니다.
+        AuthenticationService authenticationService =
+                new AuthenticationService(null, null, new TokenVersionRegistry(null, null));
+        ReflectionTestUtils.setField(authenticationService, "stateless", true);
+
+        filter = new JwtAuthenticationFilter(tokenProvider, authenticationService);
+        token = tokenProvider.generateToken(1L, "bench@example.com", UserType.CUSTOMER, 0L);
+
+        request = new MockHttpServletRequest("GET", "/reservations/1");
+        request.addHeader(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(1L, "bench@example.com", UserType.CUSTOMER, 0L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return tokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Long getId() {
+        return tokenProvider.getId(token);
+    }
+
+    @Benchmark
+    public UserPrincipal getPrincipal() {
+        return tokenProvider.getPrincipal(token);
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
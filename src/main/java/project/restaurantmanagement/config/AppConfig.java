@@ -1,5 +1,6 @@
 package project.restaurantmanagement.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -13,9 +14,10 @@ public class AppConfig {
 
     /**
      * 비밀번호 암호화를 위한 Encoder를 Bean으로 등록합니다.
+     * BCrypt cost 는 spring.password.bcrypt-strength 로 설정합니다.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${spring.password.bcrypt-strength:10}") int bcryptStrength) {
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
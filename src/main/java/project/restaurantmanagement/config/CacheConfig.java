@@ -0,0 +1,21 @@
+package project.restaurantmanagement.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 애플리케이션 내부(in-process) 캐시 설정 클래스입니다.
+ * 캐시 크기와 만료 시간은 spring.cache.caffeine.spec 으로 설정합니다.
+ * 캐시 처리가 트랜잭션 바깥에서 실행되도록 하여, 캐시 적중 시 DB 커넥션을 잡지 않고
+ * 캐시 무효화는 커밋 이후에 일어나도록 합니다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * 매장 상세 정보 캐시 (key: restaurantId)
+     */
+    public static final String RESTAURANT_CACHE = "restaurants";
+}
@@ -3,8 +3,11 @@ package project.restaurantmanagement.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import project.restaurantmanagement.dto.*;
+import project.restaurantmanagement.security.UserPrincipal;
 import project.restaurantmanagement.service.CustomerService;
 
 /**
@@ -48,4 +51,15 @@ public class CustomerController {
 
         return ResponseEntity.ok(user);
     }
+
+    /**
+     * 모든 기기에서 로그아웃합니다.
+     * 지금까지 발급된 고객 토큰을 모두 무효화하며, 이후 요청에는 다시 로그인하여 받은 토큰이 필요합니다.
+     */
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @PostMapping("/signout-all")
+    public ResponseEntity<?> signOutEverywhere(@AuthenticationPrincipal UserPrincipal principal) {
+        log.info("customer signout everywhere -> {}", principal.getEmail());
+        return ResponseEntity.ok(this.customerService.signOutEverywhere(principal));
+    }
 }
@@ -2,15 +2,26 @@ package project.restaurantmanagement.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import project.restaurantmanagement.dto.BatchDecisionDto;
 import project.restaurantmanagement.dto.RegisterReservationDto;
-import project.restaurantmanagement.dto.ReservationDto;
+import project.restaurantmanagement.dto.ReservationPageDto;
+import project.restaurantmanagement.model.type.ExportFormat;
+import project.restaurantmanagement.model.type.ReservationStatus;
+import project.restaurantmanagement.security.UserPrincipal;
 import project.restaurantmanagement.service.CustomerService;
+import project.restaurantmanagement.service.ReservationExportService;
 import project.restaurantmanagement.service.ReservationService;
 
-import java.util.List;
+import java.time.LocalDate;
 
 import static project.restaurantmanagement.model.type.AcceptStatus.ACCEPT;
 import static project.restaurantmanagement.model.type.AcceptStatus.REFUSE;
@@ -28,32 +39,84 @@ public class ReservationController {
 
     private final CustomerService customerService;
     private final ReservationService reservationService;
-    private static final String AUTH_HEADER = "Authorization";
+    private final ReservationExportService reservationExportService;
 
     /**
      * 고객에 의한 신규 예약 생성
      * 고객의 인증 후 예약 정보 저장
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 첫 요청의 결과를 그대로 받습니다.
      */
     @PostMapping("/create")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> createReservation(@RequestBody RegisterReservationDto registerDto,
-                                               @RequestHeader(AUTH_HEADER) String header) {
+                                               @RequestHeader(value = "Idempotency-Key", required = false)
+                                               String idempotencyKey,
+                                               @AuthenticationPrincipal UserPrincipal principal) {
         log.info("Creating reservation");
-        var result = customerService.createReservation(registerDto, header);
+        var result = customerService.createReservation(registerDto, principal, idempotencyKey);
         return ResponseEntity.ok(result);
     }
 
     /**
      * 매니저에 의한 예약 목록 조회
-     * 매니저가 관리하는 매장의 모든 예약 정보 조회
+     * 매니저가 관리하는 매장의 예약을 기간(from ~ to, yyyy-MM-dd)과 상태로 걸러 예약 시각 순으로 조회
+     * 응답의 nextCursor 를 cursor 파라미터로 넘기면 다음 페이지를 조회합니다.
      */
     @GetMapping("/{restaurantId}")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> viewReservations(@PathVariable Long restaurantId,
-                                              @RequestHeader(AUTH_HEADER) String header) {
+                                              @RequestParam(required = false)
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam(required = false)
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                              @RequestParam(required = false) ReservationStatus status,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size,
+                                              @AuthenticationPrincipal UserPrincipal principal) {
         log.info("Viewing reservations for restaurant {}", restaurantId);
-        List<ReservationDto> reservationDtos = reservationService.viewReservations(header, restaurantId);
-        return ResponseEntity.ok(reservationDtos);
+        ReservationPageDto reservations =
+                reservationService.viewReservations(principal, restaurantId, from, to, status, cursor, size);
+        return ResponseEntity.ok(reservations);
+    }
+
+    /**
+     * 매니저에 의한 예약 내역 내보내기
+     * 기간(from ~ to)과 상태로 거른 예약을 CSV 또는 NDJSON(format) 으로 응답 본문에 바로 씁니다.
+     */
+    @GetMapping("/{restaurantId}/export")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        log.info("Exporting reservations for restaurant {} as {}", restaurantId, format);
+        reservationExportService.checkExportable(principal, restaurantId, from, to);
+
+        StreamingResponseBody body = out ->
+                reservationExportService.export(restaurantId, from, to, status, format, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reservations-" + restaurantId + "." + format.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
+    /**
+     * 매니저에 의한 예약 실시간 구독
+     * 새 예약과 예약 상태 변경을 text/event-stream 으로 보냅니다.
+     * 재연결 시 Last-Event-ID 헤더를 보내면 그 이후의 이벤트부터 다시 받습니다.
+     */
+    @GetMapping(value = "/{restaurantId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    public SseEmitter streamReservations(@PathVariable Long restaurantId,
+                                         @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                         @AuthenticationPrincipal UserPrincipal principal) {
+        log.info("Streaming reservations for restaurant {} after {}", restaurantId, lastEventId);
+        return reservationService.streamReservations(principal, restaurantId, lastEventId);
     }
 
     /**
@@ -63,9 +126,9 @@ public class ReservationController {
     @PatchMapping("/accept/{reservationId}")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> acceptReservation(@PathVariable Long reservationId,
-                                               @RequestHeader(AUTH_HEADER) String header) {
+                                               @AuthenticationPrincipal UserPrincipal principal) {
         log.info("Accepting reservation {}", reservationId);
-        return ResponseEntity.ok(reservationService.acceptOrRefuseReservation(header, reservationId, ACCEPT));
+        return ResponseEntity.ok(reservationService.acceptOrRefuseReservation(principal, reservationId, ACCEPT));
     }
 
     /**
@@ -75,8 +138,20 @@ public class ReservationController {
     @PatchMapping("/refuse/{reservationId}")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> declineReservation(@PathVariable Long reservationId,
-                                                @RequestHeader(AUTH_HEADER) String header) {
+                                                @AuthenticationPrincipal UserPrincipal principal) {
         log.info("Declining reservation {}", reservationId);
-        return ResponseEntity.ok(reservationService.acceptOrRefuseReservation(header, reservationId, REFUSE));
+        return ResponseEntity.ok(reservationService.acceptOrRefuseReservation(principal, reservationId, REFUSE));
+    }
+
+    /**
+     * 매니저에 의한 예약 일괄 승인/거절
+     * 여러 예약 ID 를 한 번에 처리하고 예약별 처리 결과를 반환
+     */
+    @PatchMapping("/batch")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> decideReservations(@RequestBody BatchDecisionDto request,
+                                                @AuthenticationPrincipal UserPrincipal principal) {
+        log.info("Batch {} reservations", request.getDecision());
+        return ResponseEntity.ok(reservationService.acceptOrRefuseReservations(principal, request));
     }
 }
@@ -1,17 +1,29 @@
 package project.restaurantmanagement.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import project.restaurantmanagement.dto.RegisterRestaurantDto;
 import project.restaurantmanagement.dto.RestaurantDto;
 import project.restaurantmanagement.dto.VisitRestaurantDto;
+import project.restaurantmanagement.security.UserPrincipal;
+import project.restaurantmanagement.service.AvailabilityService;
 import project.restaurantmanagement.service.CustomerService;
 import project.restaurantmanagement.service.ManagerService;
 import project.restaurantmanagement.service.RestaurantService;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 /**
  * 식당 관련 요청을 처리하는 컨트롤러입니다.
  * 식당의 등록, 조회 및 방문 확인 기능을 제공합니다.
@@ -26,7 +38,7 @@ public class RestaurantController {
     private final RestaurantService restaurantService;
     private final CustomerService customerService;
     private final ManagerService managerService;
-    private static final String AUTH_HEADER = "Authorization";
+    private final AvailabilityService availabilityService;
 
     /**
      * 매니저가 식당을 등록하는 기능
@@ -35,32 +47,105 @@ public class RestaurantController {
     @PreAuthorize("hasRole('MANAGER')")
     @PostMapping("/add")
     public ResponseEntity<?> addRestaurant(@RequestBody RegisterRestaurantDto registerDto,
-                                           @RequestHeader(name = AUTH_HEADER) String header) {
-        RestaurantDto restaurantInfo = managerService.createRestaurant(registerDto, header);
+                                           @AuthenticationPrincipal UserPrincipal principal) {
+        RestaurantDto restaurantInfo = managerService.createRestaurant(registerDto, principal);
         log.info("restaurant added -> {} ", registerDto.getRestaurantName());
         return ResponseEntity.ok(restaurantInfo);
     }
 
     /**
-     * 모든 식당의 정보를 조회하는 기능
-     * 데이터베이스에서 모든 식당의 목록을 조회하여 반환합니다.
+     * 식당 목록을 페이지 단위로 조회하는 기능
+     * 응답의 nextCursor 를 cursor 파라미터로 넘기면 다음 페이지를 조회합니다.
+     * If-None-Match 가 현재 ETag 와 같으면 목록을 읽지 않고 304 를 반환합니다.
      */
     @GetMapping("/view")
-    public ResponseEntity<?> viewRestaurants() {
+    public ResponseEntity<?> viewRestaurants(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer size,
+                                             WebRequest webRequest,
+                                             HttpServletResponse response) {
         log.info("Viewing restaurants");
-        var result = restaurantService.viewRestaurants();
-        return ResponseEntity.ok(result);
+        String etag = restaurantService.restaurantsEtag(cursor, size);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        var result = restaurantService.viewRestaurants(cursor, size);
+        return ResponseEntity.ok().eTag(etag).body(result);
+    }
+
+    /**
+     * 주어진 위치 주변의 식당을 조회하는 기능
+     * 반경(radius, 미터) 안에서 가까운 순서로 최대 limit 개의 식당을 반환합니다.
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> viewNearbyRestaurants(@RequestParam double lat,
+                                                   @RequestParam double lng,
+                                                   @RequestParam(required = false) Integer radius,
+                                                   @RequestParam(required = false) Integer limit) {
+        log.info("Viewing restaurants near ({}, {})", lat, lng);
+        return ResponseEntity.ok(restaurantService.viewNearbyRestaurants(lat, lng, radius, limit));
+    }
+
+    /**
+     * 평점 상위 식당을 조회하는 기능
+     * 리뷰 수를 반영한 베이지안 평균 점수가 높은 순서로 최대 limit 개의 식당을 반환합니다.
+     */
+    @GetMapping("/top")
+    public ResponseEntity<?> viewTopRestaurants(@RequestParam(required = false) Integer limit) {
+        log.info("Viewing top restaurants");
+        return ResponseEntity.ok(restaurantService.viewTopRestaurants(limit));
+    }
+
+    /**
+     * 식당 이름, 설명, 위치로 식당을 검색하는 기능
+     * 검색어의 각 단어는 접두어로도 일치하며, 관련도 순으로 반환합니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchRestaurants(@RequestParam("q") String query,
+                                               @RequestParam(required = false) Integer limit) {
+        log.info("Searching restaurants -> {}", query);
+        return ResponseEntity.ok(restaurantService.searchRestaurants(query, limit));
     }
 
     /**
      * ID를 기반으로 특정 식당의 정보를 조회하는 기능
      * 주어진 ID에 해당하는 식당의 상세 정보를 조회하여 반환합니다.
+     * If-None-Match / If-Modified-Since 조건이 맞으면 본문 없이 304 를 반환합니다.
      */
     @GetMapping("/{restaurantId}")
     public ResponseEntity<?> viewRestaurant(@PathVariable Long restaurantId) {
         log.info("Viewing restaurant {}", restaurantId);
-        var result = restaurantService.viewRestaurant(restaurantId);
-        return ResponseEntity.ok(result);
+        var result = restaurantService.withRating(restaurantService.viewRestaurant(restaurantId));
+
+        // 매장 정보 또는 평점 집계가 바뀌면 ETag / Last-Modified 도 바뀝니다.
+        long modifiedAt = toEpochMilli(result.getModifiedAt());
+        long ratingUpdatedAt = toEpochMilli(result.getRatingUpdatedAt());
+
+        // 조건부 요청이면 본문 직렬화 없이 304 로 응답됩니다.
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag("\"" + result.getRestaurantId() + "-" + modifiedAt + "-" + ratingUpdatedAt + "\"")
+                .cacheControl(CacheControl.noCache());
+        if (result.getModifiedAt() != null || result.getRatingUpdatedAt() != null) {
+            builder.lastModified(Math.max(modifiedAt, ratingUpdatedAt));
+        }
+        return builder.body(result);
+    }
+
+    /**
+     * 식당의 예약 가능 시간대를 조회하는 기능
+     * from ~ to(포함, yyyy-MM-dd) 기간 중 party 명 이상 좌석이 남은 시간대를 반환합니다.
+     */
+    @GetMapping("/{restaurantId}/availability")
+    public ResponseEntity<?> viewAvailability(@PathVariable Long restaurantId,
+                                              @RequestParam(required = false)
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam(required = false)
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                              @RequestParam(required = false) Integer party) {
+        log.info("Viewing availability of restaurant {}", restaurantId);
+        return ResponseEntity.ok(availabilityService.viewAvailability(restaurantId, from, to, party));
     }
 
     /**
@@ -71,10 +156,14 @@ public class RestaurantController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> visitRestaurant(@RequestBody VisitRestaurantDto request,
                                              @PathVariable Long restaurantId,
-                                             @RequestHeader(name = AUTH_HEADER) String header) {
+                                             @AuthenticationPrincipal UserPrincipal principal) {
 
         log.info("visit restaurant");
-        String result = this.customerService.visitRestaurant(request, restaurantId, header);
+        String result = this.customerService.visitRestaurant(request, restaurantId, principal);
         return ResponseEntity.ok(result);
     }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
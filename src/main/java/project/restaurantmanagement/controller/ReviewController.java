@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import project.restaurantmanagement.dto.ReviewDto;
+import project.restaurantmanagement.model.type.ReviewSort;
+import project.restaurantmanagement.security.UserPrincipal;
 import project.restaurantmanagement.service.ReviewService;
 
 /**
@@ -20,7 +23,6 @@ import project.restaurantmanagement.service.ReviewService;
 public class ReviewController {
 
     private final ReviewService reviewService;
-    private static final String AUTH_HEADER = "Authorization";
 
     /**
      * 고객의 예약에 대한 리뷰를 추가합니다.
@@ -30,9 +32,9 @@ public class ReviewController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> addReview(@RequestBody ReviewDto request,
                                        @PathVariable Long reservationId,
-                                       @RequestHeader(AUTH_HEADER) String header) {
+                                       @AuthenticationPrincipal UserPrincipal principal) {
         log.info("Adding review for reservation {}", reservationId);
-        String result = reviewService.addReview(request, reservationId, header);
+        String result = reviewService.addReview(request, reservationId, principal);
         return ResponseEntity.ok(result);
     }
 
@@ -44,9 +46,9 @@ public class ReviewController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> updateReview(@RequestBody ReviewDto request,
                                           @PathVariable Long reviewId,
-                                          @RequestHeader(AUTH_HEADER) String header) {
+                                          @AuthenticationPrincipal UserPrincipal principal) {
         log.info("Updating review {}", reviewId);
-        String result = reviewService.updateReview(request, reviewId, header);
+        String result = reviewService.updateReview(request, reviewId, principal);
         return ResponseEntity.ok(result);
     }
 
@@ -57,23 +59,28 @@ public class ReviewController {
     @DeleteMapping("/{reviewId}")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> deleteReviewCustomer(@PathVariable Long reviewId,
-                                          @RequestHeader(AUTH_HEADER) String header) {
+                                          @AuthenticationPrincipal UserPrincipal principal) {
         log.info("Deleting review {}", reviewId);
-        String result = reviewService.deleteReviewCustomer(header, reviewId);
+        String result = reviewService.deleteReviewCustomer(principal, reviewId);
         return ResponseEntity.ok(result);
     }
 
     /**
      * 점장이 자신의 매장에 대한 리뷰를 조회합니다.
      * 점장 권한이 필요하며, 조회할 매장의 ID를 받아 처리합니다.
+     * sort(RECENT, RATING), 평점(star) 필터와 커서 기반 페이지네이션을 지원합니다.
      */
     @PreAuthorize("hasRole('MANAGER')")
     @GetMapping("/{restaurantId}")
-    public ResponseEntity<?> viewReviews(@RequestHeader(name = AUTH_HEADER) String header,
-                                         @PathVariable Long restaurantId) {
+    public ResponseEntity<?> viewReviews(@AuthenticationPrincipal UserPrincipal principal,
+                                         @PathVariable Long restaurantId,
+                                         @RequestParam(required = false) ReviewSort sort,
+                                         @RequestParam(required = false) Integer star,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size) {
 
         log.info("view reviews -> {} ", restaurantId);
-        return ResponseEntity.ok(reviewService.viewReviews(header, restaurantId));
+        return ResponseEntity.ok(reviewService.viewReviews(principal, restaurantId, sort, star, cursor, size));
     }
 
     /**
@@ -82,11 +89,11 @@ public class ReviewController {
      */
     @PreAuthorize("hasRole('MANAGER')")
     @DeleteMapping("/manager/{reviewId}")
-    public ResponseEntity<?> deleteReviewManager(@RequestHeader(name = AUTH_HEADER) String header,
+    public ResponseEntity<?> deleteReviewManager(@AuthenticationPrincipal UserPrincipal principal,
                                                  @PathVariable Long reviewId) {
 
         log.info("delete review -> {} ", reviewId);
-        String result = reviewService.deleteReviewManager(header, reviewId);
+        String result = reviewService.deleteReviewManager(principal, reviewId);
         return ResponseEntity.ok(result);
     }
 }
@@ -0,0 +1,35 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매장의 예약 가능 시간대 DTO
+ * 요청 인원(party) 이상 좌석이 남은 시간대만 포함합니다.
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityDto {
+
+    private Long restaurantId;
+    private Integer party;
+    private Integer slotMinutes;
+    private List<Slot> slots;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Slot {
+
+        private LocalDateTime slotTime;
+        private Integer remainingSeats;
+    }
+}
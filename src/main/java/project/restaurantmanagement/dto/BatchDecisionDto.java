@@ -0,0 +1,23 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.restaurantmanagement.model.type.AcceptStatus;
+
+import java.util.List;
+
+/**
+ * 예약 일괄 승인/거절 요청 DTO
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDecisionDto {
+
+    private List<Long> reservationIds;
+    private AcceptStatus decision;
+}
@@ -0,0 +1,43 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.restaurantmanagement.exception.ErrorCode;
+import project.restaurantmanagement.model.type.ReservationStatus;
+
+/**
+ * 예약 일괄 승인/거절의 예약별 처리 결과 DTO
+ * 실패한 경우 errorCode 와 사유가 담깁니다.
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDecisionResultDto {
+
+    private Long reservationId;
+    private boolean success;
+    private ReservationStatus status;
+    private ErrorCode errorCode;
+    private String message;
+
+    public static BatchDecisionResultDto success(Long reservationId, ReservationStatus status) {
+        return BatchDecisionResultDto.builder()
+                .reservationId(reservationId)
+                .success(true)
+                .status(status)
+                .build();
+    }
+
+    public static BatchDecisionResultDto failure(Long reservationId, ErrorCode errorCode) {
+        return BatchDecisionResultDto.builder()
+                .reservationId(reservationId)
+                .success(false)
+                .errorCode(errorCode)
+                .message(errorCode.getDescription())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.restaurantmanagement.index.GeoGridIndex;
+
+import java.util.List;
+
+/**
+ * 주변 매장 조회 결과 DTO
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyRestaurantDto {
+
+    private Long restaurantId;
+    private String name;
+    private String location;
+    private Double latitude;
+    private Double longitude;
+    private Long distanceMeters;
+
+    public static NearbyRestaurantDto from(GeoGridIndex.Match match) {
+        return NearbyRestaurantDto.builder()
+                .restaurantId(match.entry().id())
+                .name(match.entry().name())
+                .location(match.entry().location())
+                .latitude(match.entry().latitude())
+                .longitude(match.entry().longitude())
+                .distanceMeters(Math.round(match.distanceMeters()))
+                .build();
+    }
+
+    public static List<NearbyRestaurantDto> from(List<GeoGridIndex.Match> matches) {
+        return matches.stream().map(NearbyRestaurantDto::from).toList();
+    }
+}
@@ -19,4 +19,8 @@ public class RegisterRestaurantDto {
     private String location;
     private String description;
     private String phoneNumber;
+    private Double latitude;
+    private Double longitude;
+    private Integer seatCapacity;
+    private Integer slotMinutes;
 }
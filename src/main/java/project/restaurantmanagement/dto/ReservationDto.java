@@ -20,6 +20,7 @@ import java.util.List;
 @AllArgsConstructor
 public class ReservationDto {
 
+    private Long reservationId;
     private Long customerId;
     private Long restaurantId;
     private Long managerId;
@@ -28,6 +29,7 @@ public class ReservationDto {
 
     public static ReservationDto from(ReservationEntity reservationEntity) {
         return ReservationDto.builder()
+                .reservationId(reservationEntity.getId())
                 .customerId(reservationEntity.getCustomerEntity().getId())
                 .restaurantId(reservationEntity.getRestaurantEntity().getId())
                 .managerId(reservationEntity.getManagerEntity().getId())
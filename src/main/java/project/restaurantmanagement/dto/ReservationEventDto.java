@@ -0,0 +1,45 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.restaurantmanagement.entity.ReservationOutboxEntity;
+import project.restaurantmanagement.model.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 상태 변경 이벤트 DTO
+ * eventId 는 outbox id 로, 같은 예약의 이벤트는 eventId 순서대로 발생한 것입니다.
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationEventDto {
+
+    private Long eventId;
+    private Long reservationId;
+    private Long restaurantId;
+    private ReservationStatus status;
+    private LocalDateTime reservationTime;
+    private LocalDateTime occurredAt;
+
+    public static ReservationEventDto from(ReservationOutboxEntity outbox) {
+        return ReservationEventDto.builder()
+                .eventId(outbox.getId())
+                .reservationId(outbox.getReservationId())
+                .restaurantId(outbox.getRestaurantId())
+                .status(outbox.getStatus())
+                .reservationTime(outbox.getReservationTime())
+                .occurredAt(outbox.getOccurredAt())
+                .build();
+    }
+
+    public static List<ReservationEventDto> from(List<ReservationOutboxEntity> outboxEntities) {
+        return outboxEntities.stream().map(ReservationEventDto::from).toList();
+    }
+}
@@ -5,34 +5,83 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.entity.RestaurantRatingEntity;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 매장 정보 DTO
  */
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RestaurantDto {
 
+    private Long restaurantId;
     private Long managerId;
     private String name;
     private String description;
     private String phoneNumber;
+    private Double latitude;
+    private Double longitude;
+    private Integer seatCapacity;
+    private Integer slotMinutes;
+    private LocalDateTime modifiedAt;
+    private long reviewCount;
+    private Double averageRating;
+    // 평점 1~5 별 리뷰 수 (0번이 1점)
+    private List<Long> ratingDistribution;
+    private LocalDateTime ratingUpdatedAt;
 
     public static RestaurantDto from(RestaurantEntity restaurant) {
+        return from(restaurant, null);
+    }
+
+    /**
+     * @param rating 평점 집계 (집계 행이 아직 없으면 null)
+     */
+    public static RestaurantDto from(RestaurantEntity restaurant, RestaurantRatingEntity rating) {
         return RestaurantDto.builder()
+                .restaurantId(restaurant.getId())
                 .managerId(restaurant.getManagerEntity().getId())
                 .name(restaurant.getName())
                 .description(restaurant.getDescription())
                 .phoneNumber(restaurant.getPhoneNumber())
+                .latitude(restaurant.getLatitude())
+                .longitude(restaurant.getLongitude())
+                .seatCapacity(restaurant.getSeatCapacity())
+                .slotMinutes(restaurant.getSlotMinutes())
+                .modifiedAt(restaurant.getModifiedAt())
+                .reviewCount(rating == null ? 0 : rating.getReviewCount())
+                .averageRating(rating == null ? null : rating.getAverageRating())
+                .ratingDistribution(Arrays.stream(rating == null ? new long[5] : rating.getHistogram()).boxed().toList())
+                .ratingUpdatedAt(rating == null ? null : rating.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 매장 정보는 그대로 두고 평점 집계만 채운 사본을 반환합니다.
+     * @param rating 평점 집계 (집계 행이 아직 없으면 null)
+     */
+    public RestaurantDto withRating(RestaurantRatingEntity rating) {
+        return toBuilder()
+                .reviewCount(rating == null ? 0 : rating.getReviewCount())
+                .averageRating(rating == null ? null : rating.getAverageRating())
+                .ratingDistribution(Arrays.stream(rating == null ? new long[5] : rating.getHistogram()).boxed().toList())
+                .ratingUpdatedAt(rating == null ? null : rating.getUpdatedAt())
                 .build();
     }
 
     public static List<RestaurantDto> from(List<RestaurantEntity> restaurantEntities) {
         return restaurantEntities.stream().map(RestaurantDto::from).toList();
     }
+
+    public static List<RestaurantDto> from(List<RestaurantEntity> restaurantEntities, Map<Long, RestaurantRatingEntity> ratings) {
+        return restaurantEntities.stream().map(restaurant -> from(restaurant, ratings.get(restaurant.getId()))).toList();
+    }
 }
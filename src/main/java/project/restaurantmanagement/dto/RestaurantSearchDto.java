@@ -0,0 +1,41 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.restaurantmanagement.index.InvertedTextIndex;
+import project.restaurantmanagement.index.RestaurantSearchIndex;
+
+import java.util.List;
+
+/**
+ * 매장 검색 결과 DTO
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantSearchDto {
+
+    private Long restaurantId;
+    private String name;
+    private String location;
+    private Float score;
+
+    public static RestaurantSearchDto from(InvertedTextIndex.Hit hit) {
+        RestaurantSearchIndex.Summary summary = (RestaurantSearchIndex.Summary) hit.payload();
+
+        return RestaurantSearchDto.builder()
+                .restaurantId(hit.id())
+                .name(summary.name())
+                .location(summary.location())
+                .score(hit.score())
+                .build();
+    }
+
+    public static List<RestaurantSearchDto> from(List<InvertedTextIndex.Hit> hits) {
+        return hits.stream().map(RestaurantSearchDto::from).toList();
+    }
+}
@@ -4,6 +4,7 @@ import lombok.*;
 import project.restaurantmanagement.entity.ReviewEntity;
 import project.restaurantmanagement.model.type.Rating;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -17,15 +18,19 @@ import java.util.List;
 @AllArgsConstructor
 public class ReviewDto {
 
+    private Long reviewId;
     private String title;
     private String comments;
     private Rating rating;
+    private LocalDateTime createdAt;
 
     public static ReviewDto from(ReviewEntity reviewEntity) {
         return ReviewDto.builder()
+                .reviewId(reviewEntity.getId())
                 .title(reviewEntity.getTitle())
                 .comments(reviewEntity.getComment())
                 .rating(Rating.fromValue(reviewEntity.getRating()))
+                .createdAt(reviewEntity.getCreatedAt())
                 .build();
     }
 
@@ -0,0 +1,23 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매장 리뷰 목록 페이지 DTO
+ * 다음 페이지가 없으면 nextCursor 는 null 입니다.
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageDto {
+
+    private List<ReviewDto> reviews;
+    private String nextCursor;
+}
@@ -0,0 +1,49 @@
+package project.restaurantmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.restaurantmanagement.index.Leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 평점 상위 매장 조회 결과 DTO
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopRestaurantDto {
+
+    private Integer rank;
+    private Long restaurantId;
+    private String name;
+    private String location;
+    private Long reviewCount;
+    private Double averageRating;
+    private Double score;
+
+    public static TopRestaurantDto from(int rank, Leaderboard.Entry entry) {
+        return TopRestaurantDto.builder()
+                .rank(rank)
+                .restaurantId(entry.id())
+                .name(entry.name())
+                .location(entry.location())
+                .reviewCount(entry.reviewCount())
+                .averageRating(entry.averageRating())
+                .score(entry.score())
+                .build();
+    }
+
+    public static List<TopRestaurantDto> from(List<Leaderboard.Entry> entries) {
+        List<TopRestaurantDto> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            result.add(from(i + 1, entries.get(i)));
+        }
+        return result;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import project.restaurantmanagement.dto.SignUpDto;
 import project.restaurantmanagement.model.type.UserType;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -20,7 +21,10 @@ import static project.restaurantmanagement.model.type.UserType.CUSTOMER;
  */
 
 @Entity
-@Table(name = "customer")
+@Table(name = "customer", indexes = {
+        // 토큰 버전이 바뀐 사용자만 주기적으로 조회
+        @Index(name = "idx_customer_token_version_changed", columnList = "token_version_changed_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,6 +47,10 @@ public class CustomerEntity extends BaseEntity implements UserDetails {
     @Enumerated(EnumType.STRING)
     private UserType userType;
 
+    // 값이 증가하면 이전에 발급된 토큰은 모두 무효화됩니다.
+    private long tokenVersion;
+    private LocalDateTime tokenVersionChangedAt;
+
     @OneToMany(mappedBy = "customerEntity", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<ReservationEntity> reservationEntities;
 
@@ -8,6 +8,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import project.restaurantmanagement.dto.SignUpDto;
 import project.restaurantmanagement.model.type.UserType;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -21,7 +22,10 @@ import static project.restaurantmanagement.model.type.UserType.MANAGER;
  */
 
 @Entity
-@Table(name = "manager")
+@Table(name = "manager", indexes = {
+        // 토큰 버전이 바뀐 사용자만 주기적으로 조회
+        @Index(name = "idx_manager_token_version_changed", columnList = "token_version_changed_at")
+})
 @Getter
 @Setter
 @Builder
@@ -44,6 +48,10 @@ public class ManagerEntity extends BaseEntity implements UserDetails{
     @Enumerated(EnumType.STRING)
     private UserType userType;
 
+    // 값이 증가하면 이전에 발급된 토큰은 모두 무효화됩니다.
+    private long tokenVersion;
+    private LocalDateTime tokenVersionChangedAt;
+
     @OneToMany(mappedBy = "managerEntity", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<RestaurantEntity> restaurants;
 
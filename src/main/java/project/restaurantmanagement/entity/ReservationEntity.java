@@ -15,7 +15,12 @@ import static jakarta.persistence.FetchType.LAZY;
  */
 
 @Entity
-@Table(name = "reservation")
+@Table(name = "reservation", indexes = {
+        // 노쇼 취소 스케줄러: status = ? and reservation_time < ?
+        @Index(name = "idx_reservation_status_time", columnList = "status, reservation_time"),
+        // 매장 예약 목록: restaurant_id = ? and reservation_time 범위 (status) 정렬/키셋
+        @Index(name = "idx_reservation_restaurant_time_status", columnList = "restaurant_id, reservation_time, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,49 @@
+package project.restaurantmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 생성 Idempotency-Key entity
+ * 정보 : 고객 id, 키, 요청 fingerprint, 만들어진 예약 id
+ * 예약과 같은 트랜잭션에서 저장되며, (고객 id, 키) 유니크 제약으로 노드와 관계없이 같은 키의 예약은 한 번만 만들어집니다.
+ */
+
+@Entity
+@Table(name = "reservation_idempotency", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_idempotency_customer_key", columnNames = {"customer_id", "idempotency_key"})
+}, indexes = {
+        // 보관 기간이 지난 키 정리: created_at < ?
+        @Index(name = "idx_reservation_idempotency_created", columnList = "created_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationIdempotencyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "idempotency_id", nullable = false)
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,53 @@
+package project.restaurantmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import project.restaurantmanagement.model.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 상태 변경 outbox entity
+ * 정보 : 예약 id, 매장 id, 변경된 상태, 예약 시간, 변경 시각, 전달 시각
+ * 예약 상태를 바꾸는 트랜잭션에서 함께 저장되며, 전달되지 않은(dispatched_at 이 null 인) 행을 dispatcher 가 id 순서로 전달합니다.
+ * 보관 기간 동안은 예약 이벤트 스트림의 재연결(Last-Event-ID) 시 다시 보낼 이벤트로도 사용됩니다.
+ */
+
+@Entity
+@Table(name = "reservation_outbox", indexes = {
+        // dispatcher: dispatched_at is null order by outbox_id
+        @Index(name = "idx_reservation_outbox_dispatched", columnList = "dispatched_at, outbox_id"),
+        // 예약 이벤트 스트림 재연결: restaurant_id = ? and outbox_id > ? order by outbox_id
+        @Index(name = "idx_reservation_outbox_restaurant", columnList = "restaurant_id, outbox_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false)
+    private Long restaurantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    private LocalDateTime reservationTime;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime dispatchedAt;
+}
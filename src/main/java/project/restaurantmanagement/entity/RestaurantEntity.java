@@ -17,7 +17,10 @@ import java.util.List;
  */
 
 @Entity
-@Table(name = "restaurant")
+@Table(name = "restaurant", indexes = {
+        // 메모리 인덱스의 증분 적재 (수정 시각 이후에 바뀐 매장)
+        @Index(name = "idx_restaurant_modified", columnList = "modified_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -33,6 +36,12 @@ public class RestaurantEntity extends BaseEntity {
     private String location;
     private String description;
     private String phoneNumber;
+    private Double latitude;
+    private Double longitude;
+
+    // 시간대별 좌석 수 (null 이면 인원 제한 없음), 시간대 길이(분)
+    private Integer seatCapacity;
+    private Integer slotMinutes;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manager_id")
@@ -51,6 +60,10 @@ public class RestaurantEntity extends BaseEntity {
                 .location(registerRestaurantDto.getLocation())
                 .description(registerRestaurantDto.getDescription())
                 .phoneNumber(registerRestaurantDto.getPhoneNumber())
+                .latitude(registerRestaurantDto.getLatitude())
+                .longitude(registerRestaurantDto.getLongitude())
+                .seatCapacity(registerRestaurantDto.getSeatCapacity())
+                .slotMinutes(registerRestaurantDto.getSlotMinutes())
                 .managerEntity(ManagerEntity)
                 .build();
     }
@@ -0,0 +1,57 @@
+package project.restaurantmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 리뷰 평점 집계 entity
+ * 정보 : 리뷰 수, 평점 합계, 평점(1~5)별 리뷰 수
+ * 리뷰가 추가/수정/삭제될 때 같은 트랜잭션에서 증감 UPDATE 로 갱신됩니다.
+ */
+
+@Entity
+@Table(name = "restaurant_rating", indexes = {
+        // 순위표의 증분 적재 (갱신 시각 이후에 바뀐 집계)
+        @Index(name = "idx_restaurant_rating_updated", columnList = "updated_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantRatingEntity {
+
+    @Id
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    private long reviewCount;
+    private double ratingSum;
+
+    private long star1;
+    private long star2;
+    private long star3;
+    private long star4;
+    private long star5;
+
+    private LocalDateTime updatedAt;
+
+    public Double getAverageRating() {
+        return reviewCount == 0 ? null : ratingSum / reviewCount;
+    }
+
+    /**
+     * 평점 1~5 별 리뷰 수
+     */
+    public long[] getHistogram() {
+        return new long[]{star1, star2, star3, star4, star5};
+    }
+}
@@ -0,0 +1,39 @@
+package project.restaurantmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장의 예약 시간대(slot)별 좌석 재고 entity
+ * 정보 : 매장 id, 시간대 시작 시각, 좌석 수, 예약된 좌석 수
+ * 좌석 예약/반환은 조건부 UPDATE 로 처리하므로 시간대 행 단위로만 잠금이 걸립니다.
+ */
+
+@Entity
+@Table(name = "restaurant_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_restaurant_slot", columnNames = {"restaurant_id", "slot_time"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "slot_id", nullable = false)
+    private Long id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(name = "slot_time", nullable = false)
+    private LocalDateTime slotTime;
+
+    private int capacity;
+    private int reservedSeats;
+}
@@ -12,7 +12,12 @@ import static jakarta.persistence.FetchType.LAZY;
  */
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        // 매장 리뷰 목록 최신순: restaurant_id = ? order by created_at desc, review_id desc
+        @Index(name = "idx_review_restaurant_created", columnList = "restaurant_id, created_at"),
+        // 매장 리뷰 목록 평점순 / 평점 필터: restaurant_id = ? [and rating = ?] order by rating desc, created_at desc
+        @Index(name = "idx_review_restaurant_rating", columnList = "restaurant_id, rating, created_at")
+})
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,39 @@
+package project.restaurantmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업별 실행 권한(lease) entity
+ * 정보 : 작업 이름, 보유 노드, fencing token, 만료 시각
+ * 다른 노드가 lease 를 가져갈 때마다 fencing token 이 1씩 증가합니다.
+ */
+
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLeaseEntity {
+
+    @Id
+    @Column(name = "lease_name", nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private String owner;
+
+    private long fencingToken;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,23 @@
+package project.restaurantmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import project.restaurantmanagement.model.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약이 승인/거절/방문 처리되어 상태가 바뀌었을 때 발행되는 이벤트입니다.
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ReservationStatusChangedEvent {
+
+    private final Long reservationId;
+    private final Long restaurantId;
+    private final ReservationStatus status;
+    private final LocalDateTime reservationTime;
+}
@@ -0,0 +1,17 @@
+package project.restaurantmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 매장의 평점 집계가 바뀌었을 때 발행되는 이벤트입니다.
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RestaurantRatingChangedEvent {
+
+    private final Long restaurantId;
+}
@@ -0,0 +1,23 @@
+package project.restaurantmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 매장이 새로 등록되었을 때 발행되는 이벤트입니다.
+ * 메모리 인덱스들은 트랜잭션 커밋 이후에 이 이벤트를 받아 갱신됩니다.
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RestaurantRegisteredEvent {
+
+    private final Long restaurantId;
+    private final String name;
+    private final String location;
+    private final String description;
+    private final Double latitude;
+    private final Double longitude;
+}
@@ -0,0 +1,22 @@
+package project.restaurantmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간대의 예약 좌석 수가 바뀌었을 때 발행되는 이벤트입니다.
+ * seats 는 예약이면 양수, 반환이면 음수입니다.
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class SeatsChangedEvent {
+
+    private final Long restaurantId;
+    private final LocalDateTime slotTime;
+    private final int seats;
+}
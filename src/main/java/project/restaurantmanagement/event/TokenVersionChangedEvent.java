@@ -0,0 +1,20 @@
+package project.restaurantmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import project.restaurantmanagement.model.type.UserType;
+
+/**
+ * 사용자의 토큰 버전이 증가하여 이전에 발급된 토큰이 모두 무효화되었을 때 발행되는 이벤트입니다.
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class TokenVersionChangedEvent {
+
+    private final UserType userType;
+    private final Long userId;
+    private final long tokenVersion;
+}
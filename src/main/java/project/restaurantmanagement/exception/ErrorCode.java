@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 public enum ErrorCode {
     EMAIL_ALREADY_EXIST("해당 이메일은 이미 사용중입니다."),
     WRONG_PASSWORD("비밀번호가 일치하지 않습니다."),
+    PASSWORD_HASHING_BUSY("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     USER_NOT_EXIST("해당 유저가 존재하지 않습니다."),
     CUSTOMER_NOT_EXIST("해당 고객은 존재하지 않습니다."),
@@ -26,11 +27,25 @@ public enum ErrorCode {
     RESERVATION_ALREADY_VISITED("이미 방문 처리된 예약입니다."),
     RESERVATION_ALREADY_PROCESSED("이미 승인/거절 처리된 예약입니다."),
     RESERVATION_NOT_PROCESSED("예약이 아직 승인/거절 처리되지 않았습니다."),
+    RESERVATION_NOT_YOUR_RESTAURANT("본인 매장의 예약이 아닙니다."),
+    INVALID_BATCH_REQUEST("일괄 처리할 예약 ID 목록(최대 500건)과 승인/거절 여부가 필요합니다."),
+    RESERVATION_SLOT_FULL("해당 시간대의 좌석이 모두 예약되었습니다."),
+    INVALID_RESERVATION_REQUEST("예약 인원 또는 예약 시간이 올바르지 않습니다."),
+    INVALID_SLOT_SETTING("좌석 수 또는 예약 시간대 설정이 올바르지 않습니다."),
+    SEAT_CAPACITY_NOT_SET("좌석 수가 설정되지 않아 예약 가능 시간을 조회할 수 없는 매장입니다."),
+    INVALID_DATE_RANGE("조회 기간이 올바르지 않습니다."),
+    INVALID_IDEMPOTENCY_KEY("Idempotency-Key 는 1~100자여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED("같은 Idempotency-Key 로 다른 내용의 요청이 이미 처리되었습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("같은 Idempotency-Key 의 요청이 아직 처리 중입니다."),
 
     REVIEW_NOT_YOURS("해당 예약에 대한 리뷰가 본인 것이 아닙니다."),
     CANT_POST_REVIEW("조건을 만족하지 않아 리뷰를 작성할 수 없습니다(리뷰는 가게를 방문해야 작성 가능합니다)."),
 
-    SHOP_MANAGER_NOT_EXIST("해당 매장의 점장 유저 정보가 존재하지 않습니다.");
+    SHOP_MANAGER_NOT_EXIST("해당 매장의 점장 유저 정보가 존재하지 않습니다."),
+
+    INVALID_CURSOR("잘못된 페이지 커서입니다."),
+    INVALID_RATING_FILTER("평점 필터는 1~5 사이의 정수여야 합니다."),
+    INVALID_LOCATION("위도/경도 값이 올바르지 않습니다.");
 
     private String description;
 }
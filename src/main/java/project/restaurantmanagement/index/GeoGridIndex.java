@@ -0,0 +1,277 @@
+package project.restaurantmanagement.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위도/경도를 고정 크기 격자(grid)로 나누어 보관하는 공간 인덱스입니다.
+ * 조회 위치가 속한 칸부터 바깥쪽 고리(ring) 순서로 탐색하며,
+ * 남은 고리의 최소 거리가 현재 k 번째 거리보다 멀어지면 탐색을 멈춥니다.
+ * 확인하는 칸 수는 반경이 닿는 칸과 항목이 있는 칸 중 적은 쪽으로 제한됩니다. (cellDegrees 는 360 의 약수)
+ * 각 칸은 copy-on-write 배열이므로 조회는 잠금 없이 수행됩니다.
+ */
+
+public class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final double cellDegrees;
+    private final ConcurrentHashMap<Long, Entry[]> cells = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> cellById = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    /**
+     * 항목을 추가합니다. 같은 ID가 이미 있으면 교체합니다.
+     */
+    public void put(Entry entry) {
+        long cellKey = cellKey(row(entry.latitude()), col(entry.longitude()));
+        Long previousCell = cellById.put(entry.id(), cellKey);
+
+        if (previousCell != null && previousCell != cellKey) {
+            cells.computeIfPresent(previousCell, (key, entries) -> without(entries, entry.id()));
+        }
+
+        cells.compute(cellKey, (key, entries) -> {
+            Entry[] base = entries == null ? new Entry[0] : without(entries, entry.id());
+            Entry[] copy = Arrays.copyOf(base, base.length + 1);
+            copy[base.length] = entry;
+            return copy;
+        });
+    }
+
+    public int size() {
+        return cellById.size();
+    }
+
+    /**
+     * 반경 안에서 가까운 순서로 최대 limit 개의 항목을 찾습니다.
+     * 행(row)마다 반경이 닿는 열(column) 범위를 구해 그 안의 칸만 확인하며, 경도 ±180° 경계는 이어서 탐색합니다.
+     * 확인할 칸이 항목이 있는 칸보다 많으면(극지방, 빈 지역 등) 항목이 있는 칸만 훑습니다.
+     */
+    public List<Match> nearest(double latitude, double longitude, double radiusMeters, int limit) {
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+        double radiusDegrees = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+
+        int minRow = Math.max(row(latitude - radiusDegrees), row(-90));
+        int maxRow = Math.min(row(latitude + radiusDegrees), row(90));
+        int[][] spans = new int[maxRow - minRow + 1][];
+        long cellCount = 0;
+        int maxRing = Math.max(centerRow - minRow, maxRow - centerRow);
+        double minLatitudeCos = Math.cos(Math.toRadians(latitude));
+
+        for (int row = minRow; row <= maxRow; row++) {
+            int[] span = columnSpan(row, latitude, longitude, radiusMeters);
+            spans[row - minRow] = span;
+            if (span != null) {
+                cellCount += span[1] - span[0] + 1;
+                maxRing = Math.max(maxRing, Math.max(-span[0], span[1]));
+                double poleward = Math.max(Math.abs(row * cellDegrees), Math.abs((row + 1) * cellDegrees));
+                minLatitudeCos = Math.min(minLatitudeCos, Math.cos(Math.toRadians(Math.min(poleward, 90))));
+            }
+        }
+
+        // 가장 먼 항목이 머리에 오는 최대 힙
+        PriorityQueue<Match> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Match::distanceMeters).reversed());
+
+        long ringWork = (maxRing + 1L) * spans.length;
+        if (Math.max(cellCount, ringWork) > cells.size()) {
+            scanOccupied(spans, minRow, centerCol, latitude, longitude, radiusMeters, limit, heap);
+        } else {
+            walkRings(spans, minRow, centerRow, centerCol, maxRing, minLatitudeCos,
+                    latitude, longitude, radiusMeters, limit, heap);
+        }
+
+        List<Match> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Match::distanceMeters));
+        return result;
+    }
+
+    /**
+     * 조회 위치에서 가까운 고리부터 확인하고, 남은 고리의 최소 거리가 현재 k 번째 거리보다 멀어지면 멈춥니다.
+     * @param minLatitudeCos 탐색하는 행 중 극에 가장 가까운 위도의 cos (경도 차이로 생기는 최소 거리 계산용)
+     */
+    private void walkRings(int[][] spans, int minRow, int centerRow, int centerCol, int maxRing, double minLatitudeCos,
+                           double latitude, double longitude, double radiusMeters, int limit, PriorityQueue<Match> heap) {
+        double cellRadians = Math.toRadians(cellDegrees);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (heap.size() == limit && ring > 1) {
+                // 고리의 칸은 위도로 (ring - 1) 칸 이상, 또는 경도로 (ring - 1) 칸 이상 떨어져 있음
+                double gap = Math.min((ring - 1) * cellRadians, Math.PI);
+                double minDistance = EARTH_RADIUS_METERS * Math.min(gap,
+                        2 * Math.asin(minLatitudeCos * Math.sin(gap / 2)));
+                if (minDistance > heap.peek().distanceMeters()) {
+                    return;
+                }
+            }
+
+            int fromRow = Math.max(centerRow - ring, minRow);
+            int toRow = Math.min(centerRow + ring, minRow + spans.length - 1);
+            for (int row = fromRow; row <= toRow; row++) {
+                int[] span = spans[row - minRow];
+                if (span == null) {
+                    continue;
+                }
+
+                if (row == centerRow - ring || row == centerRow + ring) {
+                    for (int offset = Math.max(-ring, span[0]); offset <= Math.min(ring, span[1]); offset++) {
+                        visit(cells.get(cellKey(row, wrap(centerCol + offset))), latitude, longitude,
+                                radiusMeters, limit, heap);
+                    }
+                    continue;
+                }
+
+                if (-ring >= span[0]) {
+                    visit(cells.get(cellKey(row, wrap(centerCol - ring))), latitude, longitude,
+                            radiusMeters, limit, heap);
+                }
+                if (ring != 0 && ring <= span[1]) {
+                    visit(cells.get(cellKey(row, wrap(centerCol + ring))), latitude, longitude,
+                            radiusMeters, limit, heap);
+                }
+            }
+        }
+    }
+
+    /**
+     * 항목이 있는 칸 중 행별 열 범위에 드는 칸만 확인합니다.
+     */
+    private void scanOccupied(int[][] spans, int minRow, int centerCol, double latitude, double longitude,
+                              double radiusMeters, int limit, PriorityQueue<Match> heap) {
+        for (Map.Entry<Long, Entry[]> cell : cells.entrySet()) {
+            int row = (int) (cell.getKey() >> 32);
+            if (row < minRow || row >= minRow + spans.length) {
+                continue;
+            }
+
+            int[] span = spans[row - minRow];
+            int col = (int) cell.getKey().longValue();
+            if (span != null && Math.floorMod(col - centerCol - span[0], columns()) <= span[1] - span[0]) {
+                visit(cell.getValue(), latitude, longitude, radiusMeters, limit, heap);
+            }
+        }
+    }
+
+    /**
+     * 행의 위도 구간에서 반경 안에 드는 점의 경도 범위를, 조회 위치 열 기준의 열 오프셋 [from, to] 로 반환합니다.
+     * 반경이 행에 닿지 않으면 null, 극점을 포함하는 등 한 바퀴를 모두 덮으면 전체 열을 한 번씩만 포함합니다.
+     */
+    private int[] columnSpan(int row, double latitude, double longitude, double radiusMeters) {
+        double angle = radiusMeters / EARTH_RADIUS_METERS;
+        double lat0 = Math.toRadians(latitude);
+        double lowest = Math.toRadians(Math.max(row * cellDegrees, -90));
+        double highest = Math.toRadians(Math.min((row + 1) * cellDegrees, 90));
+
+        // 반경 안의 점이 경도로 가장 멀리 퍼지는 위도를 행 구간 안으로 맞춤
+        double widest = Math.asin(Math.min(1.0, Math.max(-1.0, Math.sin(lat0) / Math.cos(angle))));
+        double lat = Math.max(lowest, Math.min(highest, widest));
+
+        double denominator = Math.cos(lat0) * Math.cos(lat);
+        double halfWidth;
+        if (denominator < 1e-12) {
+            halfWidth = 180;
+        } else {
+            double cosWidth = (Math.cos(angle) - Math.sin(lat0) * Math.sin(lat)) / denominator;
+            if (cosWidth > 1.0 + 1e-12) {
+                return null;
+            }
+            halfWidth = cosWidth <= -1.0 ? 180 : Math.toDegrees(Math.acos(Math.min(1.0, cosWidth)));
+        }
+
+        int from = rawCol(longitude - halfWidth) - rawCol(longitude);
+        int to = rawCol(longitude + halfWidth) - rawCol(longitude);
+        if (to - from + 1 >= columns()) {
+            from = -columns() / 2;
+            to = from + columns() - 1;
+        }
+        return new int[]{from, to};
+    }
+
+    private void visit(Entry[] entries, double latitude, double longitude, double radiusMeters,
+                       int limit, PriorityQueue<Match> heap) {
+        if (entries == null) {
+            return;
+        }
+
+        for (Entry entry : entries) {
+            double distance = distanceMeters(latitude, longitude, entry.latitude(), entry.longitude());
+
+            if (distance > radiusMeters) {
+                continue;
+            }
+
+            if (heap.size() < limit) {
+                heap.add(new Match(entry, distance));
+            } else if (distance < heap.peek().distanceMeters()) {
+                heap.poll();
+                heap.add(new Match(entry, distance));
+            }
+        }
+    }
+
+    private Entry[] without(Entry[] entries, long id) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].id() == id) {
+                Entry[] copy = new Entry[entries.length - 1];
+                System.arraycopy(entries, 0, copy, 0, i);
+                System.arraycopy(entries, i + 1, copy, i, entries.length - i - 1);
+                return copy;
+            }
+        }
+        return entries;
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellDegrees);
+    }
+
+    private int col(double longitude) {
+        return wrap(rawCol(longitude));
+    }
+
+    private int rawCol(double longitude) {
+        return (int) Math.floor(longitude / cellDegrees);
+    }
+
+    /**
+     * 경도 한 바퀴의 열 수
+     */
+    private int columns() {
+        return (int) Math.round(360 / cellDegrees);
+    }
+
+    /**
+     * 열을 [-180°, 180°) 범위로 맞춤 (경도 ±180° 경계를 넘는 열을 반대쪽 열로)
+     */
+    private int wrap(int col) {
+        int half = columns() / 2;
+        return Math.floorMod(col + half, columns()) - half;
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 두 좌표 사이의 거리(미터)를 haversine 공식으로 계산합니다.
+     */
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public record Entry(long id, String name, String location, double latitude, double longitude) {
+    }
+
+    public record Match(Entry entry, double distanceMeters) {
+    }
+}
@@ -0,0 +1,50 @@
+package project.restaurantmanagement.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 인덱스를 수정 시각 기준으로 증분 적재하기 위한 읽기 위치입니다.
+ * 수정 시각은 각 노드의 시계로 기록되고 기록 후 커밋까지 시간이 걸리므로, 늦게 커밋된 행을 놓치지 않도록
+ * 지난번에 읽기 시작한 시각보다 overlap 만큼 앞에서부터 다시 읽습니다.
+ * 같은 행을 여러 번 읽을 수 있으므로, 읽은 행은 같은 값을 다시 반영해도 결과가 같아야 합니다.
+ */
+
+public class IncrementalReload {
+
+    private final Duration overlap;
+    // 다음 증분 적재에서 읽기 시작할 수정 시각 (null 이면 아직 전체 적재 전)
+    private LocalDateTime readFrom;
+
+    public IncrementalReload(Duration overlap) {
+        this.overlap = overlap;
+    }
+
+    /**
+     * 전체 행을 읽고, 읽기 시작한 시각을 다음 증분 적재의 기준으로 삼습니다.
+     */
+    public synchronized <T> List<T> loadAll(Supplier<List<T>> query) {
+        LocalDateTime start = LocalDateTime.now();
+        List<T> rows = query.get();
+        readFrom = start.minus(overlap);
+        return rows;
+    }
+
+    /**
+     * 지난번 적재 이후에 수정된 행을 읽습니다. 아직 전체 적재 전이면 읽지 않습니다.
+     * @param query 주어진 수정 시각 이후(포함)에 수정된 행을 읽는 조회
+     */
+    public synchronized <T> List<T> loadChanged(Function<LocalDateTime, List<T>> query) {
+        if (readFrom == null) {
+            return List.of();
+        }
+
+        LocalDateTime start = LocalDateTime.now();
+        List<T> rows = query.apply(readFrom);
+        readFrom = start.minus(overlap);
+        return rows;
+    }
+}
@@ -0,0 +1,169 @@
+package project.restaurantmanagement.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 문서 필드별 가중치를 두는 메모리 역색인(inverted index)입니다.
+ * 용어 사전을 정렬된 맵으로 유지하여 접두어(prefix) 검색을 지원하고,
+ * 필드 가중치 x idf 합으로 관련도를 계산합니다.
+ * 문서 추가/교체는 해당 문서의 용어만 갱신하므로 전체 재색인이 필요 없습니다.
+ */
+
+public class InvertedTextIndex {
+
+    // 접두어 검색 시 확장할 최대 용어 수
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    // 접두어로만 일치한 경우의 점수 비율
+    private static final float PREFIX_MATCH_RATIO = 0.5f;
+
+    private final ConcurrentSkipListMap<String, ConcurrentHashMap<Long, Float>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 문서를 색인합니다. 같은 ID가 있으면 이전 용어를 제거한 뒤 다시 색인합니다.
+     * @param fields 필드 값과 가중치 목록
+     */
+    public void put(long id, Object payload, List<Field> fields) {
+        Map<String, Float> weights = new HashMap<>();
+        for (Field field : fields) {
+            for (String term : tokenize(field.value())) {
+                weights.merge(term, field.weight(), Float::sum);
+            }
+        }
+
+        Document previous = documents.put(id, new Document(payload, weights.keySet()));
+        if (previous != null) {
+            for (String term : previous.terms()) {
+                if (!weights.containsKey(term)) {
+                    removePosting(term, id);
+                }
+            }
+        }
+
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(id, weight));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 질의의 모든 용어(정확히 또는 접두어로)와 일치하는 문서를 관련도 순으로 반환합니다.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        int totalDocuments = Math.max(documents.size(), 1);
+        Map<Long, Float> scores = null;
+
+        for (String queryTerm : queryTerms) {
+            Map<Long, Float> termScores = scoreTerm(queryTerm, totalDocuments);
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // 모든 질의 용어와 일치하는 문서만 남김
+                Map<Long, Float> merged = new HashMap<>();
+                for (Map.Entry<Long, Float> entry : termScores.entrySet()) {
+                    Float score = scores.get(entry.getKey());
+                    if (score != null) {
+                        merged.put(entry.getKey(), score + entry.getValue());
+                    }
+                }
+                scores = merged;
+            }
+
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::score));
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            Document document = documents.get(entry.getKey());
+            if (document == null) {
+                continue;
+            }
+
+            heap.add(new Hit(entry.getKey(), document.payload(), entry.getValue()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id));
+        return hits;
+    }
+
+    /**
+     * 하나의 질의 용어에 대해 문서별 최고 점수를 계산합니다.
+     */
+    private Map<Long, Float> scoreTerm(String queryTerm, int totalDocuments) {
+        Map<Long, Float> termScores = new HashMap<>();
+        ConcurrentNavigableMap<String, ConcurrentHashMap<Long, Float>> expansions =
+                postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+
+        int expanded = 0;
+        for (Map.Entry<String, ConcurrentHashMap<Long, Float>> term : expansions.entrySet()) {
+            if (expanded++ >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+
+            ConcurrentHashMap<Long, Float> docs = term.getValue();
+            float idf = (float) Math.log(1.0 + (double) totalDocuments / Math.max(docs.size(), 1));
+            float ratio = term.getKey().equals(queryTerm) ? 1.0f : PREFIX_MATCH_RATIO;
+
+            docs.forEach((id, weight) -> termScores.merge(id, weight * idf * ratio, Math::max));
+        }
+        return termScores;
+    }
+
+    private void removePosting(String term, long id) {
+        postings.computeIfPresent(term, (key, docs) -> {
+            docs.remove(id);
+            return docs.isEmpty() ? null : docs;
+        });
+    }
+
+    /**
+     * 소문자로 변환한 뒤 글자/숫자가 아닌 문자를 기준으로 분리합니다. (한글 포함)
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    public record Field(String value, float weight) {
+    }
+
+    public record Hit(long id, Object payload, float score) {
+    }
+
+    private record Document(Object payload, Set<String> terms) {
+    }
+}
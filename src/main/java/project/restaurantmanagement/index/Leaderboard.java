@@ -0,0 +1,76 @@
+package project.restaurantmanagement.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 점수 내림차순으로 정렬된 상태를 유지하는 순위표입니다.
+ * 항목은 skip list 에 (점수 내림차순, ID 오름차순)으로 보관하여, 상위 k 개 조회는 앞에서부터 k 개만 읽습니다.
+ * 조회는 잠금 없이 수행되고, 변경은 ID 별 현재 항목을 함께 바꾸기 위해 직렬화합니다.
+ */
+
+public class Leaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::id);
+
+    private volatile ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /**
+     * 항목을 추가합니다. 같은 ID가 이미 있으면 교체합니다.
+     */
+    public synchronized void put(Entry entry) {
+        Entry previous = entries.put(entry.id(), entry);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(entry);
+    }
+
+    public synchronized void remove(long id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    public synchronized Entry get(long id) {
+        return entries.get(id);
+    }
+
+    /**
+     * 전체 항목을 교체합니다. 새 순위표를 만든 뒤 바꾸므로 조회 중에 일부만 보이지 않습니다.
+     */
+    public synchronized void replaceAll(Collection<Entry> newEntries) {
+        ConcurrentSkipListSet<Entry> newRanking = new ConcurrentSkipListSet<>(ORDER);
+        entries.clear();
+        for (Entry entry : newEntries) {
+            Entry previous = entries.put(entry.id(), entry);
+            if (previous != null) {
+                newRanking.remove(previous);
+            }
+            newRanking.add(entry);
+        }
+        ranking = newRanking;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 점수가 높은 순서로 최대 k 개를 반환합니다.
+     */
+    public List<Entry> top(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(k, 128));
+        Iterator<Entry> iterator = ranking.iterator();
+        while (result.size() < k && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public record Entry(long id, double score, String name, String location, long reviewCount, double averageRating) {
+    }
+}
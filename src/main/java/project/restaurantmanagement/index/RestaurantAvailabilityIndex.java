@@ -0,0 +1,120 @@
+package project.restaurantmanagement.index;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.restaurantmanagement.entity.RestaurantSlotEntity;
+import project.restaurantmanagement.event.SeatsChangedEvent;
+import project.restaurantmanagement.repository.RestaurantSlotRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 매장별, 날짜별 시간대 예약 좌석 수를 메모리에 int 배열로 보관합니다.
+ * 날짜는 처음 조회될 때 restaurant_slot 에서 적재하고, 이후에는 좌석 변경 이벤트로 증분 갱신합니다.
+ * 적재 후 refresh-interval 이 지난 날짜는 다시 적재하여 다른 노드의 변경도 반영합니다.
+ */
+
+@Component
+@RequiredArgsConstructor
+public class RestaurantAvailabilityIndex {
+
+    private final RestaurantSlotRepository restaurantSlotRepository;
+
+    private final ConcurrentMap<DayKey, DayOccupancy> days = new ConcurrentHashMap<>();
+    // 적재 중에 들어온 변경을 감지하기 위한 매장별 변경 번호
+    private final ConcurrentMap<Long, Long> changes = new ConcurrentHashMap<>();
+
+    @Value("${spring.availability.refresh-interval:60000}")
+    private long refreshIntervalMillis;
+
+    /**
+     * from ~ to(포함) 날짜별 시간대 예약 좌석 수를 반환합니다.
+     */
+    public List<AtomicIntegerArray> occupancy(Long restaurantId, int slotMinutes, LocalDate from, LocalDate to) {
+        long now = System.currentTimeMillis();
+        Map<LocalDate, AtomicIntegerArray> result = new LinkedHashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            DayOccupancy occupancy = days.get(new DayKey(restaurantId, day));
+            if (occupancy == null || occupancy.slotMinutes() != slotMinutes
+                    || now - occupancy.loadedAt() > refreshIntervalMillis) {
+                firstMissing = firstMissing == null ? day : firstMissing;
+                lastMissing = day;
+            }
+            result.put(day, occupancy == null ? null : occupancy.reserved());
+        }
+
+        if (firstMissing != null) {
+            result.putAll(load(restaurantId, slotMinutes, firstMissing, lastMissing, now));
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * 누락된 날짜 범위를 한 번의 쿼리로 적재합니다.
+     * 적재 중에 같은 매장의 변경이 있었으면 놓친 변경이 있을 수 있으므로, 결과는 반환하되 보관하지 않습니다.
+     */
+    private Map<LocalDate, AtomicIntegerArray> load(Long restaurantId, int slotMinutes,
+                                                    LocalDate from, LocalDate to, long now) {
+        Long changeBefore = changes.get(restaurantId);
+        List<RestaurantSlotEntity> slots = restaurantSlotRepository
+                .findByRestaurantIdAndSlotTimeGreaterThanEqualAndSlotTimeLessThan(
+                        restaurantId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        Map<LocalDate, AtomicIntegerArray> loaded = new HashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            loaded.put(day, new AtomicIntegerArray(1440 / slotMinutes));
+        }
+        for (RestaurantSlotEntity slot : slots) {
+            loaded.get(slot.getSlotTime().toLocalDate())
+                    .set(slotIndex(slot.getSlotTime(), slotMinutes), slot.getReservedSeats());
+        }
+
+        // 보관한 뒤에 변경 번호를 다시 확인해야, 확인 이후의 이벤트가 보관된 배열에 반영됩니다.
+        loaded.forEach((day, reserved) ->
+                days.put(new DayKey(restaurantId, day), new DayOccupancy(slotMinutes, reserved, now)));
+        if (!Objects.equals(changeBefore, changes.get(restaurantId))) {
+            loaded.keySet().forEach(day -> days.remove(new DayKey(restaurantId, day)));
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener
+    public void onSeatsChanged(SeatsChangedEvent event) {
+        changes.merge(event.getRestaurantId(), 1L, Long::sum);
+
+        DayOccupancy occupancy = days.get(new DayKey(event.getRestaurantId(), event.getSlotTime().toLocalDate()));
+        if (occupancy != null) {
+            occupancy.reserved().addAndGet(slotIndex(event.getSlotTime(), occupancy.slotMinutes()), event.getSeats());
+        }
+    }
+
+    /**
+     * 지난 날짜는 더 이상 조회되지 않으므로 매시간 정리합니다.
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(key -> key.day().isBefore(today));
+    }
+
+    private static int slotIndex(LocalDateTime slotTime, int slotMinutes) {
+        return (slotTime.getHour() * 60 + slotTime.getMinute()) / slotMinutes;
+    }
+
+    private record DayKey(long restaurantId, LocalDate day) {
+    }
+
+    private record DayOccupancy(int slotMinutes, AtomicIntegerArray reserved, long loadedAt) {
+    }
+}
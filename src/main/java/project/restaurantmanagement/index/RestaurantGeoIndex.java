@@ -0,0 +1,86 @@
+package project.restaurantmanagement.index;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.restaurantmanagement.event.RestaurantRegisteredEvent;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.repository.projection.RestaurantLocationView;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 매장 위치를 메모리 격자 인덱스로 관리합니다.
+ * 애플리케이션 시작 시 한 번 적재하고, 이후에는 매장 등록 이벤트로 증분 갱신합니다.
+ * 다른 노드에서 등록/수정된 매장은 refresh-interval 마다 수정 시각 기준으로 바뀐 매장만 다시 읽어 반영합니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantGeoIndex {
+
+    // 약 1.1km 크기의 격자
+    private static final double CELL_DEGREES = 0.01;
+
+    private final RestaurantRepository restaurantRepository;
+    private final GeoGridIndex index = new GeoGridIndex(CELL_DEGREES);
+
+    @Value("${spring.restaurant-index.reload-overlap-millis:300000}")
+    private long reloadOverlapMillis;
+
+    private IncrementalReload reload;
+
+    @PostConstruct
+    public void init() {
+        reload = new IncrementalReload(Duration.ofMillis(reloadOverlapMillis));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        putAll(reload.loadAll(restaurantRepository::findLocationsByLatitudeIsNotNullAndLongitudeIsNotNull));
+        log.info("restaurant geo index loaded -> {} restaurants in {} ms",
+                index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 지난번 적재 이후에 수정된 매장만 읽어 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.geo-index.refresh-interval:60000}",
+            initialDelayString = "${spring.geo-index.refresh-interval:60000}")
+    public void refresh() {
+        List<RestaurantLocationView> locations = reload.loadChanged(restaurantRepository::
+                findLocationsByModifiedAtGreaterThanEqualAndLatitudeIsNotNullAndLongitudeIsNotNull);
+        putAll(locations);
+        log.debug("restaurant geo index refreshed -> {} restaurants", locations.size());
+    }
+
+    @TransactionalEventListener
+    public void onRestaurantRegistered(RestaurantRegisteredEvent event) {
+        if (event.getLatitude() == null || event.getLongitude() == null) {
+            return;
+        }
+
+        index.put(new GeoGridIndex.Entry(event.getRestaurantId(), event.getName(), event.getLocation(),
+                event.getLatitude(), event.getLongitude()));
+    }
+
+    private void putAll(List<RestaurantLocationView> locations) {
+        for (RestaurantLocationView location : locations) {
+            index.put(new GeoGridIndex.Entry(location.getId(), location.getName(), location.getLocation(),
+                    location.getLatitude(), location.getLongitude()));
+        }
+    }
+
+    public List<GeoGridIndex.Match> nearest(double latitude, double longitude, double radiusMeters, int limit) {
+        return index.nearest(latitude, longitude, radiusMeters, limit);
+    }
+}
@@ -0,0 +1,220 @@
+package project.restaurantmanagement.index;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.restaurantmanagement.event.RestaurantRatingChangedEvent;
+import project.restaurantmanagement.event.RestaurantRegisteredEvent;
+import project.restaurantmanagement.repository.RestaurantRatingRepository;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.repository.projection.RatingScoreView;
+import project.restaurantmanagement.repository.projection.RestaurantSummaryView;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 평점 상위 매장 순위표입니다.
+ * 점수는 베이지안 평균 (C * m + 평점 합계) / (C + 리뷰 수) 로, 리뷰가 적은 매장의 평균은 전체 평균(m) 쪽으로 당겨집니다.
+ * 애플리케이션 시작 시 restaurant_rating 의 집계 값만 적재하고, 이후에는 평점 집계 변경 이벤트로 해당 매장만 갱신합니다.
+ * refresh-interval 마다 갱신 시각 이후에 바뀐 집계와 매장만 다시 읽고, 메모리의 집계로 전체 평균과 점수를 다시 계산하여
+ * 다른 노드의 변경과 전체 평균의 변화를 반영합니다.
+ * 이름을 모르는 매장(다른 노드에서 등록되어 등록 이벤트를 받지 못한 매장 등)은 매장 정보를 조회하여 채우며,
+ * 조회되지 않는 매장은 이름을 알 수 있을 때까지 순위에 올리지 않습니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantLeaderboard {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantRatingRepository restaurantRatingRepository;
+
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final Map<Long, Summary> summaries = new ConcurrentHashMap<>();
+    // 매장별로 반영한 집계 (갱신 시각은 오래된 집계로 덮어쓰지 않기 위해 사용)
+    private final Map<Long, Score> scores = new HashMap<>();
+    private volatile double priorMean;
+
+    @Value("${spring.leaderboard.prior-weight:10}")
+    private double priorWeight;
+
+    @Value("${spring.leaderboard.default-mean:3.0}")
+    private double defaultMean;
+
+    @Value("${spring.leaderboard.min-reviews:1}")
+    private long minReviews;
+
+    @Value("${spring.restaurant-index.reload-overlap-millis:300000}")
+    private long reloadOverlapMillis;
+
+    private IncrementalReload scoreReload;
+    private IncrementalReload summaryReload;
+
+    @PostConstruct
+    public void init() {
+        scoreReload = new IncrementalReload(Duration.ofMillis(reloadOverlapMillis));
+        summaryReload = new IncrementalReload(Duration.ofMillis(reloadOverlapMillis));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+
+        putSummaries(summaryReload.loadAll(restaurantRepository::findAllSummariesBy));
+        List<RatingScoreView> ratings = scoreReload.loadAll(restaurantRatingRepository::findAllScoresBy);
+        apply(ratings);
+
+        log.info("restaurant leaderboard loaded -> {} restaurants, prior mean {} in {} ms",
+                leaderboard.size(), priorMean, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 지난번 적재 이후에 바뀐 집계와 매장만 읽어 반영하고, 전체 평균과 점수를 다시 계산합니다.
+     */
+    @Scheduled(initialDelayString = "${spring.leaderboard.refresh-interval:300000}",
+            fixedDelayString = "${spring.leaderboard.refresh-interval:300000}")
+    public void refresh() {
+        putSummaries(summaryReload.loadChanged(restaurantRepository::findSummariesByModifiedAtGreaterThanEqual));
+        List<RatingScoreView> ratings = scoreReload.loadChanged(
+                restaurantRatingRepository::findScoresByUpdatedAtGreaterThanEqual);
+        apply(ratings);
+
+        log.debug("restaurant leaderboard refreshed -> {} changed ratings, prior mean {}", ratings.size(), priorMean);
+    }
+
+    @TransactionalEventListener
+    public void onRestaurantRegistered(RestaurantRegisteredEvent event) {
+        summaries.put(event.getRestaurantId(), new Summary(event.getName(), event.getLocation()));
+    }
+
+    /**
+     * 커밋 이후에도 트랜잭션의 영속성 컨텍스트가 남아 있어, 집계를 entity 로 읽으면 증감 UPDATE 이전의 값을 읽을 수 있습니다.
+     * 값만 조회하는 프로젝션으로 DB 의 현재 집계를 읽습니다.
+     */
+    @TransactionalEventListener
+    public void onRatingChanged(RestaurantRatingChangedEvent event) {
+        restaurantRatingRepository.findScoreByRestaurantId(event.getRestaurantId()).ifPresent(rating -> {
+            loadSummaries(List.of(rating.getRestaurantId()));
+            update(rating);
+        });
+    }
+
+    /**
+     * 점수가 높은 순서로 최대 limit 개의 매장을 반환합니다. (DB 조회 없음)
+     */
+    public List<Leaderboard.Entry> top(int limit) {
+        return leaderboard.top(limit);
+    }
+
+    private synchronized void update(RatingScoreView rating) {
+        Score score = Score.from(rating);
+        if (!putScore(rating.getRestaurantId(), score)) {
+            return;
+        }
+
+        if (isRanked(rating.getRestaurantId(), score)) {
+            leaderboard.put(entry(rating.getRestaurantId(), score));
+        } else {
+            leaderboard.remove(rating.getRestaurantId());
+        }
+    }
+
+    /**
+     * 읽은 집계를 반영한 뒤 메모리의 전체 집계로 전체 평균과 모든 매장의 점수를 다시 계산합니다.
+     */
+    private void apply(List<RatingScoreView> ratings) {
+        // 매장 정보 조회 이후에 등록된 매장
+        loadSummaries(ratings.stream().map(RatingScoreView::getRestaurantId).toList());
+
+        synchronized (this) {
+            for (RatingScoreView rating : ratings) {
+                putScore(rating.getRestaurantId(), Score.from(rating));
+            }
+
+            long totalCount = 0;
+            double totalSum = 0;
+            for (Score score : scores.values()) {
+                totalCount += score.reviewCount();
+                totalSum += score.ratingSum();
+            }
+            priorMean = totalCount == 0 ? defaultMean : totalSum / totalCount;
+
+            List<Leaderboard.Entry> entries = new ArrayList<>();
+            scores.forEach((restaurantId, score) -> {
+                if (isRanked(restaurantId, score)) {
+                    entries.add(entry(restaurantId, score));
+                }
+            });
+            leaderboard.replaceAll(entries);
+        }
+    }
+
+    /**
+     * 이미 반영한 집계보다 오래된 집계가 아니면 교체합니다.
+     * @return 교체하였으면 true
+     */
+    private boolean putScore(Long restaurantId, Score score) {
+        Score current = scores.get(restaurantId);
+        if (current != null && current.updatedAt() != null && score.updatedAt() != null
+                && current.updatedAt().isAfter(score.updatedAt())) {
+            return false;
+        }
+        scores.put(restaurantId, score);
+        return true;
+    }
+
+    /**
+     * 이름을 모르는 매장만 조회하여 채웁니다.
+     */
+    private void loadSummaries(Collection<Long> restaurantIds) {
+        List<Long> unknown = restaurantIds.stream().filter(id -> !summaries.containsKey(id)).toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        putSummaries(restaurantRepository.findSummariesByIdIn(unknown));
+    }
+
+    private void putSummaries(List<RestaurantSummaryView> views) {
+        for (RestaurantSummaryView view : views) {
+            summaries.put(view.getId(), new Summary(view.getName(), view.getLocation()));
+        }
+    }
+
+    private boolean isRanked(Long restaurantId, Score score) {
+        return score.reviewCount() >= minReviews && summaries.containsKey(restaurantId);
+    }
+
+    private Leaderboard.Entry entry(Long restaurantId, Score score) {
+        Summary summary = summaries.get(restaurantId);
+        double bayesian = (priorWeight * priorMean + score.ratingSum()) / (priorWeight + score.reviewCount());
+        double average = score.reviewCount() == 0 ? 0 : score.ratingSum() / score.reviewCount();
+
+        return new Leaderboard.Entry(restaurantId, bayesian, summary.name(), summary.location(),
+                score.reviewCount(), average);
+    }
+
+    private record Summary(String name, String location) {
+    }
+
+    private record Score(long reviewCount, double ratingSum, LocalDateTime updatedAt) {
+
+        static Score from(RatingScoreView view) {
+            return new Score(view.getReviewCount(), view.getRatingSum(), view.getUpdatedAt());
+        }
+    }
+}
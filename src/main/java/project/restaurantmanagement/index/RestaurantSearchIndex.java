@@ -0,0 +1,93 @@
+package project.restaurantmanagement.index;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.restaurantmanagement.event.RestaurantRegisteredEvent;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.repository.projection.RestaurantSearchView;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 매장 이름, 설명, 위치를 대상으로 하는 메모리 전문 검색 인덱스입니다.
+ * 애플리케이션 시작 시 한 번 적재하고, 이후에는 매장 등록 이벤트로 증분 갱신합니다.
+ * 다른 노드에서 등록/수정된 매장은 refresh-interval 마다 수정 시각 기준으로 바뀐 매장만 다시 읽어 반영합니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSearchIndex {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final RestaurantRepository restaurantRepository;
+    private final InvertedTextIndex index = new InvertedTextIndex();
+
+    @Value("${spring.restaurant-index.reload-overlap-millis:300000}")
+    private long reloadOverlapMillis;
+
+    private IncrementalReload reload;
+
+    @PostConstruct
+    public void init() {
+        reload = new IncrementalReload(Duration.ofMillis(reloadOverlapMillis));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        putAll(reload.loadAll(restaurantRepository::findAllSearchViewsBy));
+        log.info("restaurant search index loaded -> {} restaurants in {} ms",
+                index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 지난번 적재 이후에 수정된 매장만 읽어 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.search-index.refresh-interval:60000}",
+            initialDelayString = "${spring.search-index.refresh-interval:60000}")
+    public void refresh() {
+        List<RestaurantSearchView> views = reload.loadChanged(restaurantRepository::findSearchViewsByModifiedAtGreaterThanEqual);
+        putAll(views);
+        log.debug("restaurant search index refreshed -> {} restaurants", views.size());
+    }
+
+    @TransactionalEventListener
+    public void onRestaurantRegistered(RestaurantRegisteredEvent event) {
+        put(event.getRestaurantId(), event.getName(), event.getLocation(), event.getDescription());
+    }
+
+    public List<InvertedTextIndex.Hit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    private void putAll(List<RestaurantSearchView> views) {
+        for (RestaurantSearchView view : views) {
+            put(view.getId(), view.getName(), view.getLocation(), view.getDescription());
+        }
+    }
+
+    private void put(Long id, String name, String location, String description) {
+        index.put(id, new Summary(name, location), List.of(
+                new InvertedTextIndex.Field(name, NAME_WEIGHT),
+                new InvertedTextIndex.Field(location, LOCATION_WEIGHT),
+                new InvertedTextIndex.Field(description, DESCRIPTION_WEIGHT)));
+    }
+
+    /**
+     * 검색 결과에 함께 반환할 매장 요약 정보
+     */
+    public record Summary(String name, String location) {
+    }
+}
@@ -0,0 +1,83 @@
+package project.restaurantmanagement.model;
+
+import project.restaurantmanagement.exception.GlobalException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+import static project.restaurantmanagement.exception.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 키셋 페이지네이션에서 사용하는 불투명(opaque) 커서입니다.
+ * 마지막으로 반환한 행의 정렬 키 값들을 URL-safe Base64 문자열로 인코딩합니다.
+ */
+
+public final class PageCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String[] values;
+
+    private PageCursor(String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩합니다.
+     */
+    public static String encode(Object... values) {
+        String joined = Arrays.stream(values).map(String::valueOf).collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     * @return 커서가 비어 있으면 null
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new PageCursor(decoded.split("\\|", -1));
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(INVALID_CURSOR);
+        }
+    }
+
+    public Long getLong(int index) {
+        try {
+            return Long.parseLong(value(index));
+        } catch (NumberFormatException e) {
+            throw new GlobalException(INVALID_CURSOR);
+        }
+    }
+
+    public Double getDouble(int index) {
+        try {
+            return Double.parseDouble(value(index));
+        } catch (NumberFormatException e) {
+            throw new GlobalException(INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(value(index));
+        } catch (RuntimeException e) {
+            throw new GlobalException(INVALID_CURSOR);
+        }
+    }
+
+    private String value(int index) {
+        if (index >= values.length) {
+            throw new GlobalException(INVALID_CURSOR);
+        }
+        return values[index];
+    }
+}
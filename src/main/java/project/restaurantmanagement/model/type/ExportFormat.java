@@ -0,0 +1,18 @@
+package project.restaurantmanagement.model.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 내보내기 형식
+ */
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
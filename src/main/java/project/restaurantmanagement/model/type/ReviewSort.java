@@ -0,0 +1,11 @@
+package project.restaurantmanagement.model.type;
+
+/**
+ * 리뷰 목록 정렬 기준
+ * RECENT : 최신순, RATING : 평점 높은순 (같은 평점은 최신순)
+ */
+
+public enum ReviewSort {
+    RECENT,
+    RATING
+}
@@ -0,0 +1,29 @@
+package project.restaurantmanagement.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import project.restaurantmanagement.dto.ReservationEventDto;
+
+import java.util.List;
+
+/**
+ * 예약 이벤트를 로그로 남기는 sink 입니다.
+ */
+
+@Slf4j
+@Component
+public class LogReservationEventSink implements ReservationEventSink {
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(List<ReservationEventDto> events) {
+        for (ReservationEventDto event : events) {
+            log.info("reservation event -> #{} reservation {} of restaurant {} is {}",
+                    event.getEventId(), event.getReservationId(), event.getRestaurantId(), event.getStatus());
+        }
+    }
+}
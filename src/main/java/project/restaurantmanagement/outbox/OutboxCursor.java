@@ -0,0 +1,91 @@
+package project.restaurantmanagement.outbox;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * outbox 를 id 순서로 따라 읽을 때의 읽은 위치입니다.
+ * IDENTITY id 는 커밋 순서와 다를 수 있어, 늦게 커밋되는 작은 id 를 건너뛰지 않도록
+ * 빈 id(gap) 는 gap-timeout 동안 기다린 뒤에만 지나갑니다.
+ * position 이하의 id 는 모두 처리되었고, position 보다 큰 id 중 처리한 것은 따로 기억하여 중복 전달하지 않습니다.
+ * 기다리는 gap 은 마지막으로 읽은 id 바로 앞 maxGapIds 개로 제한되며, 그보다 앞선 빈 id 는
+ * 진행 중인 트랜잭션이 아니라 건너뛴 id (롤백, AUTO_INCREMENT 증가분 등) 로 보고 기다리지 않습니다.
+ */
+
+public class OutboxCursor {
+
+    private final long gapTimeoutMillis;
+    private final int maxGapIds;
+    private final TreeSet<Long> seen = new TreeSet<>();
+    // 빈 id 와 처음 발견한 시각
+    private final Map<Long, Long> gaps = new HashMap<>();
+    private long position;
+
+    public OutboxCursor(long position, long gapTimeoutMillis, int maxGapIds) {
+        this.position = position;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.maxGapIds = maxGapIds;
+    }
+
+    /**
+     * 다음 조회는 이 값보다 큰 id 부터 읽습니다.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * 읽은 id 를 기록합니다.
+     * @return 처음 읽은 id 이면 true
+     */
+    public boolean accept(long id) {
+        if (id <= position) {
+            return false;
+        }
+        gaps.remove(id);
+        return seen.add(id);
+    }
+
+    /**
+     * 앞에서부터 연속으로 처리된 id 와 기다린 시간이 지난 gap 만큼 position 을 옮깁니다.
+     */
+    public void advance(long now) {
+        if (seen.isEmpty()) {
+            return;
+        }
+
+        long last = seen.last();
+        long from = Math.max(position + 1, last - maxGapIds);
+        if (from > position + 1) {
+            // 이미 전달한 id 는 seen 에서만 지우면 되고, 기다리던 gap 은 포기함
+            seen.headSet(from).clear();
+            gaps.keySet().removeIf(id -> id < from);
+            position = from - 1;
+        }
+
+        for (long id = from; id < last; id++) {
+            if (!seen.contains(id)) {
+                gaps.putIfAbsent(id, now);
+            }
+        }
+
+        while (position < last) {
+            long next = position + 1;
+            if (seen.remove(next)) {
+                position = next;
+                continue;
+            }
+
+            if (now - gaps.get(next) < gapTimeoutMillis) {
+                break;
+            }
+            gaps.remove(next);
+            position = next;
+        }
+    }
+
+    public int pendingGaps() {
+        return gaps.size();
+    }
+}
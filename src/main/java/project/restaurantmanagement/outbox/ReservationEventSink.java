@@ -0,0 +1,21 @@
+package project.restaurantmanagement.outbox;
+
+import project.restaurantmanagement.dto.ReservationEventDto;
+
+import java.util.List;
+
+/**
+ * outbox 의 예약 이벤트를 전달받는 대상입니다.
+ * 이벤트는 outbox id 순서대로 묶음 단위로 전달되며, 전달이 실패하면 같은 묶음이 다시 전달될 수 있습니다.
+ * (at-least-once) 구현체는 eventId 로 중복을 걸러야 합니다.
+ */
+
+public interface ReservationEventSink {
+
+    String name();
+
+    /**
+     * 예외가 발생하면 묶음 전체가 전달되지 않은 것으로 보고 다음 주기에 다시 전달합니다.
+     */
+    void deliver(List<ReservationEventDto> events);
+}
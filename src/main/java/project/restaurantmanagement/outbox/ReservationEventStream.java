@@ -0,0 +1,359 @@
+package project.restaurantmanagement.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.restaurantmanagement.dto.ReservationEventDto;
+import project.restaurantmanagement.entity.ReservationOutboxEntity;
+import project.restaurantmanagement.repository.ReservationOutboxRepository;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 매장별 예약 이벤트를 Server-Sent Events 로 구독자에게 보냅니다.
+ * 각 노드는 구독자 수와 관계없이 poll-interval 마다 한 번 reservation_outbox 를 id 순서로 이어 읽고, 메모리에서 매장별 구독자에게 나눠 보냅니다.
+ * 연결은 비동기 응답(SseEmitter)이므로 대기 중인 구독자가 요청 스레드를 점유하지 않습니다.
+ * 전송은 전용 스레드 풀에서 구독자별 큐를 비우며 이루어지므로, 느린 구독자가 outbox 조회나 다른 구독자를 막지 않습니다.
+ * 큐가 queue-capacity 를 넘은 구독자는 연결을 끝내며, 클라이언트는 Last-Event-ID 로 재연결해 놓친 이벤트를 다시 받습니다.
+ * Last-Event-ID 로 재연결하면 그 이후의 이벤트를 outbox 에서 다시 보낸 뒤 실시간 전송을 이어갑니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventStream implements MeterBinder {
+
+    private static final String EVENT_NAME = "reservation";
+    // 다시 보낼 이벤트가 replay-limit 보다 많거나 보관 기간이 지나 지워졌으면 이 이벤트를 보내 목록을 새로 조회하게 함
+    private static final String RESET_EVENT_NAME = "reset";
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private volatile OutboxCursor cursor;
+    private volatile boolean initialized;
+
+    @Value("${spring.reservation.stream.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    @Value("${spring.reservation.stream.gap-timeout-millis:5000}")
+    private long gapTimeoutMillis;
+
+    @Value("${spring.reservation.stream.batch-size:500}")
+    private int batchSize;
+
+    @Value("${spring.reservation.stream.replay-limit:500}")
+    private int replayLimit;
+
+    @Value("${spring.reservation.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${spring.reservation.stream.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ExecutorService sender;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void start() {
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("reservation-stream-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * 지금 이후의 이벤트부터 읽도록 outbox 의 마지막 id 에서 시작합니다.
+     * outbox 가 비어 있으면 처음 읽은 id 에서 시작합니다. (정리 후에도 id 는 1 이 아니라 이전 값에 이어서 발급됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        Long lastId = reservationOutboxRepository.findMaxId();
+        cursor = lastId == null ? null : new OutboxCursor(lastId, gapTimeoutMillis, batchSize);
+        initialized = true;
+    }
+
+    /**
+     * 매장의 예약 이벤트를 구독합니다.
+     * @param lastEventId 마지막으로 받은 이벤트 id (없으면 지금 이후의 이벤트만 보냄)
+     */
+    public SseEmitter subscribe(Long restaurantId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(restaurantId, emitter, queueCapacity);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriber.close());
+
+        // 다시 보내는 동안 들어온 실시간 이벤트는 구독자에 쌓였다가 이어서 전송됨
+        subscribers.computeIfAbsent(restaurantId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        List<ReservationEventDto> missed = List.of();
+        boolean reset = false;
+        if (lastEventId != null) {
+            reset = isExpired(lastEventId);
+            if (!reset) {
+                missed = ReservationEventDto.from(reservationOutboxRepository.findByRestaurantIdAndIdGreaterThanOrderByIdAsc(
+                        restaurantId, lastEventId, PageRequest.of(0, replayLimit + 1)));
+                reset = missed.size() > replayLimit;
+            }
+        }
+
+        subscriber.startLive(missed, reset);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.reservation.stream.poll-interval:1000}")
+    public void poll() {
+        if (!initialized) {
+            return;
+        }
+
+        OutboxCursor current = cursor;
+        List<ReservationOutboxEntity> rows = reservationOutboxRepository.findByIdGreaterThanOrderByIdAsc(
+                current == null ? 0L : current.position(), PageRequest.of(0, batchSize));
+        if (current == null) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            current = new OutboxCursor(rows.get(0).getId() - 1, gapTimeoutMillis, batchSize);
+            cursor = current;
+        }
+
+        for (ReservationOutboxEntity row : rows) {
+            if (current.accept(row.getId())) {
+                publish(ReservationEventDto.from(row));
+            }
+        }
+        current.advance(System.currentTimeMillis());
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트를 보내고, 끊어진 연결을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.reservation.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> restaurantSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : restaurantSubscribers) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reservation.stream.subscribers", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("예약 이벤트 스트림 구독 연결 수")
+                .register(registry);
+        droppedCounter = Counter.builder("reservation.stream.dropped")
+                .description("전송 큐가 가득 차 연결을 끝낸 느린 구독자 수")
+                .register(registry);
+    }
+
+    /**
+     * Last-Event-ID 이후의 이벤트 중 보관 기간이 지나 지워진 것이 있을 수 있는지 확인합니다.
+     */
+    private boolean isExpired(long lastEventId) {
+        Long oldestId = reservationOutboxRepository.findMinId();
+        if (oldestId != null) {
+            return lastEventId + 1 < oldestId;
+        }
+
+        // outbox 가 비어 있으면, 이 노드가 이미 지나간 위치보다 앞선 id 이후의 이벤트는 모두 지워진 것
+        OutboxCursor current = cursor;
+        return current != null && lastEventId < current.position();
+    }
+
+    private void publish(ReservationEventDto event) {
+        Set<Subscriber> restaurantSubscribers = subscribers.get(event.getRestaurantId());
+        if (restaurantSubscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : restaurantSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.restaurantId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 구독 연결 하나의 전송 큐입니다.
+     * 이벤트는 큐에 쌓기만 하고, 큐가 비어 있지 않을 때 전송 스레드 풀에 비우는 작업을 하나만 올려 순서대로 보냅니다.
+     */
+    private class Subscriber {
+
+        private final Long restaurantId;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private final List<ReservationEventDto> buffered = new ArrayList<>();
+        // 재연결 시 다시 보낸 이벤트 id 와 그 최댓값 (poll 이 뒤늦게 같은 이벤트를 읽어도 다시 보내지 않음)
+        private final Set<Long> replayed = new HashSet<>();
+        private long replayedUpTo;
+        private boolean live;
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(Long restaurantId, SseEmitter emitter, int capacity) {
+            this.restaurantId = restaurantId;
+            this.emitter = emitter;
+            this.capacity = capacity;
+        }
+
+        synchronized void offer(ReservationEventDto event) {
+            if (!live) {
+                if (buffered.size() >= capacity) {
+                    overflow();
+                    return;
+                }
+                buffered.add(event);
+                return;
+            }
+            if (!isReplayed(event)) {
+                enqueue(toSseEvent(event));
+            }
+        }
+
+        /**
+         * 놓친 이벤트를 큐에 넣은 뒤, 그동안 쌓인 실시간 이벤트 중 다시 보낸 것과 겹치지 않는 것을 이어서 넣습니다.
+         * 다시 보내는 이벤트 수는 replay-limit 으로 제한되므로 큐 용량과 관계없이 넣습니다.
+         * 노드의 outbox 위치가 다시 보낸 이벤트보다 뒤에 있으면 같은 이벤트가 나중에 실시간으로 다시 들어오므로,
+         * 다시 보낸 id 는 실시간 전송이 시작된 뒤에도 기억해 두었다가 거릅니다.
+         * @param reset 놓친 이벤트를 모두 다시 보낼 수 없으면 true (놓친 이벤트 대신 reset 이벤트를 보냄)
+         */
+        synchronized void startLive(List<ReservationEventDto> missed, boolean reset) {
+            if (closed) {
+                return;
+            }
+            if (reset) {
+                queue.add(SseEmitter.event().name(RESET_EVENT_NAME).data(""));
+            } else {
+                for (ReservationEventDto event : missed) {
+                    queue.add(toSseEvent(event));
+                    replayed.add(event.getEventId());
+                    replayedUpTo = Math.max(replayedUpTo, event.getEventId());
+                }
+            }
+
+            for (ReservationEventDto event : buffered) {
+                if (!isReplayed(event)) {
+                    queue.add(toSseEvent(event));
+                }
+            }
+            buffered.clear();
+            live = true;
+            schedule();
+        }
+
+        synchronized void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (queue.size() >= capacity) {
+                overflow();
+                return;
+            }
+            queue.add(event);
+            schedule();
+        }
+
+        /**
+         * 다시 보낸 최대 id 이하이면서 실제로 다시 보낸 이벤트인지 확인합니다.
+         * 다시 보낼 때 아직 커밋되지 않아 빠졌던 작은 id 는 실시간으로 전달됩니다.
+         */
+        private boolean isReplayed(ReservationEventDto event) {
+            return event.getEventId() <= replayedUpTo && replayed.remove(event.getEventId());
+        }
+
+        private void schedule() {
+            if (draining || closed || queue.isEmpty()) {
+                return;
+            }
+            draining = true;
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining = false;
+                close();
+            }
+        }
+
+        /**
+         * 큐가 빌 때까지 보냅니다. emitter.send 는 락 밖에서 호출하여, 보내는 동안에도 다른 스레드가 큐에 넣을 수 있습니다.
+         */
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    next = closed ? null : queue.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("reservation stream closed -> restaurant {}", restaurantId);
+                    synchronized (this) {
+                        draining = false;
+                        close();
+                    }
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 전송이 밀린 구독자는 연결을 끝내고 재연결 시 outbox 에서 다시 받게 합니다.
+         */
+        private void overflow() {
+            log.debug("reservation stream too slow -> restaurant {}", restaurantId);
+            if (droppedCounter != null) {
+                droppedCounter.increment();
+            }
+            close();
+            emitter.complete();
+        }
+
+        synchronized void close() {
+            closed = true;
+            queue.clear();
+            buffered.clear();
+            replayed.clear();
+            remove(this);
+        }
+
+        private SseEmitter.SseEventBuilder toSseEvent(ReservationEventDto event) {
+            return SseEmitter.event()
+                    .id(String.valueOf(event.getEventId()))
+                    .name(EVENT_NAME)
+                    .data(event);
+        }
+    }
+}
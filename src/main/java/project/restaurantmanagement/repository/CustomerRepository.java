@@ -2,7 +2,10 @@ package project.restaurantmanagement.repository;
 
 import org.springframework.stereotype.Repository;
 import project.restaurantmanagement.entity.CustomerEntity;
+import project.restaurantmanagement.repository.projection.TokenVersionView;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +13,6 @@ public interface CustomerRepository extends BaseRepository<CustomerEntity, Long>
     boolean existsByEmail(String email);
 
     Optional<CustomerEntity> findByEmail(String username);
+
+    List<TokenVersionView> findByTokenVersionChangedAtGreaterThanEqual(LocalDateTime changedAt);
 }
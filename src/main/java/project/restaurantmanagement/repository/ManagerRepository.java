@@ -2,7 +2,10 @@ package project.restaurantmanagement.repository;
 
 import org.springframework.stereotype.Repository;
 import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.repository.projection.TokenVersionView;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +13,6 @@ public interface ManagerRepository extends BaseRepository<ManagerEntity, Long> {
     Optional<ManagerEntity> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    List<TokenVersionView> findByTokenVersionChangedAtGreaterThanEqual(LocalDateTime changedAt);
 }
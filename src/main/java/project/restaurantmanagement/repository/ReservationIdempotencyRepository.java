@@ -0,0 +1,33 @@
+package project.restaurantmanagement.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import project.restaurantmanagement.entity.ReservationIdempotencyEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ReservationIdempotencyRepository extends BaseRepository<ReservationIdempotencyEntity, Long> {
+
+    Optional<ReservationIdempotencyEntity> findByCustomerIdAndIdempotencyKey(Long customerId, String idempotencyKey);
+
+    /**
+     * 키를 기록합니다. 같은 (고객 id, 키) 가 이미 있으면 키 중복으로 실패하고,
+     * 다른 트랜잭션이 같은 키를 기록 중이면 그 트랜잭션이 끝날 때까지 기다립니다.
+     */
+    @Modifying
+    @Query(value = "insert into reservation_idempotency (customer_id, idempotency_key, fingerprint, reservation_id, created_at) " +
+            "values (:customerId, :key, :fingerprint, :reservationId, :now)", nativeQuery = true)
+    int insert(@Param("customerId") Long customerId,
+               @Param("key") String key,
+               @Param("fingerprint") String fingerprint,
+               @Param("reservationId") Long reservationId,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from ReservationIdempotencyEntity i where i.createdAt < :time")
+    int deleteCreatedBefore(@Param("time") LocalDateTime time);
+}
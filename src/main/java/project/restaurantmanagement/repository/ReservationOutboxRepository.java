@@ -0,0 +1,49 @@
+package project.restaurantmanagement.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import project.restaurantmanagement.entity.ReservationOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationOutboxRepository extends BaseRepository<ReservationOutboxEntity, Long> {
+
+    /**
+     * 예약의 현재 상태를 outbox 에 기록합니다. 예약을 읽어오지 않고 한 번의 INSERT ... SELECT 로 저장합니다.
+     */
+    @Modifying
+    @Query(value = "insert into reservation_outbox (reservation_id, restaurant_id, status, reservation_time, occurred_at) " +
+            "select r.reservation_id, r.restaurant_id, r.status, r.reservation_time, :now from reservation r " +
+            "where r.reservation_id in (:reservationIds) order by r.reservation_id", nativeQuery = true)
+    int insertCurrentStatus(@Param("reservationIds") Collection<Long> reservationIds,
+                            @Param("now") LocalDateTime now);
+
+    List<ReservationOutboxEntity> findByDispatchedAtIsNullOrderByIdAsc(Pageable pageable);
+
+    List<ReservationOutboxEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<ReservationOutboxEntity> findByRestaurantIdAndIdGreaterThanOrderByIdAsc(Long restaurantId, Long id, Pageable pageable);
+
+    @Query("select max(o.id) from ReservationOutboxEntity o")
+    Long findMaxId();
+
+    @Query("select min(o.id) from ReservationOutboxEntity o")
+    Long findMinId();
+
+    @Modifying
+    @Query("update ReservationOutboxEntity o set o.dispatchedAt = :now where o.id in :ids and o.dispatchedAt is null")
+    int markDispatched(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 전달된 지 오래된 행을 삭제합니다.
+     */
+    @Modifying
+    @Query("delete from ReservationOutboxEntity o where o.dispatchedAt < :time")
+    int deleteDispatchedBefore(@Param("time") LocalDateTime time);
+}
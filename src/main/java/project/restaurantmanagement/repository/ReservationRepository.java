@@ -1,17 +1,114 @@
 package project.restaurantmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import project.restaurantmanagement.entity.ManagerEntity;
 import project.restaurantmanagement.entity.ReservationEntity;
 import project.restaurantmanagement.model.type.ReservationStatus;
+import project.restaurantmanagement.repository.projection.ReservationTimeView;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ReservationRepository extends BaseRepository<ReservationEntity, Long> {
 
-    List<ReservationEntity> findReservationEntitiesByManagerEntity(ManagerEntity manager);
+    @EntityGraph(attributePaths = {"restaurantEntity"})
+    List<ReservationEntity> findByIdIn(List<Long> ids);
+
+    /**
+     * 매장의 예약을 (reservation_time, id) 순서로 커서 이후부터 조회합니다.
+     * status 가 null 이면 모든 상태를 조회합니다.
+     */
+    @Query("select r from ReservationEntity r where r.restaurantEntity.id = :restaurantId " +
+            "and r.reservationTime < :to and (:status is null or r.status = :status) " +
+            "and (r.reservationTime > :afterTime or (r.reservationTime = :afterTime and r.id > :afterId)) " +
+            "order by r.reservationTime asc, r.id asc")
+    List<ReservationEntity> findPageByRestaurant(@Param("restaurantId") Long restaurantId,
+                                                 @Param("to") LocalDateTime to,
+                                                 @Param("status") ReservationStatus status,
+                                                 @Param("afterTime") LocalDateTime afterTime,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    /**
+     * 내보내기용 스트림 조회. 결과를 한 번에 읽지 않고 fetch size 단위로 DB 커서에서 가져옵니다.
+     * 트랜잭션 안에서 사용하고, 다 쓴 스트림은 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from ReservationEntity r join fetch r.customerEntity " +
+            "where r.restaurantEntity.id = :restaurantId and r.reservationTime >= :from and r.reservationTime < :to " +
+            "and (:status is null or r.status = :status) order by r.reservationTime asc, r.id asc")
+    Stream<ReservationEntity> streamByRestaurant(@Param("restaurantId") Long restaurantId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 @Param("status") ReservationStatus status);
+
+    /**
+     * 상태가 status 이고 예약 시각이 to 이전인 예약의 id 와 예약 시각을 (reservation_time, id) 순서로 커서 이후부터 조회합니다.
+     */
+    @Query("select r.id as id, r.reservationTime as reservationTime from ReservationEntity r " +
+            "where r.status = :status and r.reservationTime < :to " +
+            "and (r.reservationTime > :afterTime or (r.reservationTime = :afterTime and r.id > :afterId)) " +
+            "order by r.reservationTime asc, r.id asc")
+    List<ReservationTimeView> findTimesByStatus(@Param("status") ReservationStatus status,
+                                                @Param("to") LocalDateTime to,
+                                                @Param("afterTime") LocalDateTime afterTime,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    @Query("select r.id from ReservationEntity r where r.status = :status and r.reservationTime < :time")
+    List<Long> findIdsByStatusAndReservationTimeBefore(@Param("status") ReservationStatus status,
+                                                       @Param("time") LocalDateTime time,
+                                                       Pageable pageable);
+
+    /**
+     * 주어진 예약 중 상태가 status 인 예약을 id 순서로 잠그고 id 를 반환합니다.
+     */
+    @Query(value = "select r.reservation_id from reservation r where r.reservation_id in (:ids) and r.status = :status " +
+            "order by r.reservation_id for update", nativeQuery = true)
+    List<Long> lockIdsByStatus(@Param("ids") List<Long> ids, @Param("status") String status);
+
+    /**
+     * 주어진 예약 중 상태가 from 인 예약만 to 로 변경합니다.
+     * @return 변경된 예약 수
+     */
+    @Modifying
+    @Query("update ReservationEntity r set r.status = :to, r.modifiedAt = :now " +
+            "where r.id in :ids and r.status = :from")
+    int updateStatus(@Param("ids") List<Long> ids,
+                     @Param("from") ReservationStatus from,
+                     @Param("to") ReservationStatus to,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 예약이 아직 from 상태이면 to 상태로 바꾸고 방문 처리합니다.
+     * @return 변경되었으면 1, 그 사이 상태가 바뀌었으면 0
+     */
+    @Modifying
+    @Query("update ReservationEntity r set r.status = :to, r.visited = true, r.modifiedAt = :now " +
+            "where r.id = :id and r.status = :from")
+    int markVisited(@Param("id") Long id,
+                    @Param("from") ReservationStatus from,
+                    @Param("to") ReservationStatus to,
+                    @Param("now") LocalDateTime now);
 
-    List<ReservationEntity> findByStatusAndReservationTimeLessThanEqual(ReservationStatus reservationStatus, LocalDateTime localDateTime);
+    /**
+     * 영속성 컨텍스트에 남아 있는 entity 가 아닌 DB 의 현재 상태를 조회합니다.
+     */
+    @Query("select r.status from ReservationEntity r where r.id = :id")
+    Optional<ReservationStatus> findStatusById(@Param("id") Long id);
 }
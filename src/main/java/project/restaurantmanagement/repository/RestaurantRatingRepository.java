@@ -0,0 +1,84 @@
+package project.restaurantmanagement.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import project.restaurantmanagement.entity.RestaurantRatingEntity;
+import project.restaurantmanagement.repository.projection.RatingScoreView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RestaurantRatingRepository extends BaseRepository<RestaurantRatingEntity, Long> {
+
+    List<RatingScoreView> findAllScoresBy();
+
+    Optional<RatingScoreView> findScoreByRestaurantId(Long restaurantId);
+
+    List<RatingScoreView> findScoresByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    /**
+     * 집계에 증감값을 더합니다.
+     * @return 집계 행이 없으면 0
+     */
+    @Modifying
+    @Query("update RestaurantRatingEntity r set r.reviewCount = r.reviewCount + :count, " +
+            "r.ratingSum = r.ratingSum + :sum, r.star1 = r.star1 + :star1, r.star2 = r.star2 + :star2, " +
+            "r.star3 = r.star3 + :star3, r.star4 = r.star4 + :star4, r.star5 = r.star5 + :star5, " +
+            "r.updatedAt = :now where r.restaurantId = :restaurantId")
+    int applyDelta(@Param("restaurantId") Long restaurantId,
+                   @Param("count") long count,
+                   @Param("sum") double sum,
+                   @Param("star1") long star1,
+                   @Param("star2") long star2,
+                   @Param("star3") long star3,
+                   @Param("star4") long star4,
+                   @Param("star5") long star5,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 집계 행을 새로 만듭니다. 이미 있으면 키 중복으로 실패합니다.
+     */
+    @Modifying
+    @Query(value = "insert into restaurant_rating (restaurant_id, review_count, rating_sum, " +
+            "star1, star2, star3, star4, star5, updated_at) " +
+            "values (:restaurantId, :count, :sum, :star1, :star2, :star3, :star4, :star5, :now)", nativeQuery = true)
+    int insert(@Param("restaurantId") Long restaurantId,
+               @Param("count") long count,
+               @Param("sum") double sum,
+               @Param("star1") long star1,
+               @Param("star2") long star2,
+               @Param("star3") long star3,
+               @Param("star4") long star4,
+               @Param("star5") long star5,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 집계 값을 덮어씁니다. (재계산 작업용)
+     */
+    @Modifying
+    @Query("update RestaurantRatingEntity r set r.reviewCount = :count, r.ratingSum = :sum, " +
+            "r.star1 = :star1, r.star2 = :star2, r.star3 = :star3, r.star4 = :star4, r.star5 = :star5, " +
+            "r.updatedAt = :now where r.restaurantId = :restaurantId")
+    int overwrite(@Param("restaurantId") Long restaurantId,
+                  @Param("count") long count,
+                  @Param("sum") double sum,
+                  @Param("star1") long star1,
+                  @Param("star2") long star2,
+                  @Param("star3") long star3,
+                  @Param("star4") long star4,
+                  @Param("star5") long star5,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 재계산 중 리뷰 변경과 겹치지 않도록 집계 행을 잠그고 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RestaurantRatingEntity r where r.restaurantId in :restaurantIds")
+    List<RestaurantRatingEntity> findAllForUpdate(@Param("restaurantIds") List<Long> restaurantIds);
+}
@@ -1,11 +1,35 @@
 package project.restaurantmanagement.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.repository.projection.RestaurantLocationView;
+import project.restaurantmanagement.repository.projection.RestaurantSearchView;
+import project.restaurantmanagement.repository.projection.RestaurantSummaryView;
+import project.restaurantmanagement.repository.projection.RestaurantVersionView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RestaurantRepository extends BaseRepository<RestaurantEntity, Long> {
-    List<RestaurantEntity> findAll();
+    List<RestaurantEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<RestaurantVersionView> findVersionsByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<RestaurantLocationView> findLocationsByLatitudeIsNotNullAndLongitudeIsNotNull();
+
+    List<RestaurantLocationView> findLocationsByModifiedAtGreaterThanEqualAndLatitudeIsNotNullAndLongitudeIsNotNull(
+            LocalDateTime modifiedAt);
+
+    List<RestaurantSearchView> findAllSearchViewsBy();
+
+    List<RestaurantSearchView> findSearchViewsByModifiedAtGreaterThanEqual(LocalDateTime modifiedAt);
+
+    List<RestaurantSummaryView> findAllSummariesBy();
+
+    List<RestaurantSummaryView> findSummariesByIdIn(Collection<Long> ids);
+
+    List<RestaurantSummaryView> findSummariesByModifiedAtGreaterThanEqual(LocalDateTime modifiedAt);
 }
@@ -0,0 +1,39 @@
+package project.restaurantmanagement.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import project.restaurantmanagement.entity.RestaurantSlotEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RestaurantSlotRepository extends BaseRepository<RestaurantSlotEntity, Long> {
+
+    boolean existsByRestaurantIdAndSlotTime(Long restaurantId, LocalDateTime slotTime);
+
+    List<RestaurantSlotEntity> findByRestaurantIdAndSlotTimeGreaterThanEqualAndSlotTimeLessThan(
+            Long restaurantId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 남은 좌석이 충분할 때만 좌석을 예약합니다.
+     * @return 예약되면 1, 좌석이 부족하면 0
+     */
+    @Modifying
+    @Query("update RestaurantSlotEntity s set s.reservedSeats = s.reservedSeats + :seats " +
+            "where s.restaurantId = :restaurantId and s.slotTime = :slotTime " +
+            "and s.reservedSeats + :seats <= s.capacity")
+    int reserveSeats(@Param("restaurantId") Long restaurantId,
+                     @Param("slotTime") LocalDateTime slotTime,
+                     @Param("seats") int seats);
+
+    @Modifying
+    @Query("update RestaurantSlotEntity s set s.reservedSeats = s.reservedSeats - :seats " +
+            "where s.restaurantId = :restaurantId and s.slotTime = :slotTime " +
+            "and s.reservedSeats >= :seats")
+    int releaseSeats(@Param("restaurantId") Long restaurantId,
+                     @Param("slotTime") LocalDateTime slotTime,
+                     @Param("seats") int seats);
+}
@@ -1,14 +1,64 @@
 package project.restaurantmanagement.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import project.restaurantmanagement.entity.RestaurantEntity;
 import project.restaurantmanagement.entity.ReviewEntity;
+import project.restaurantmanagement.repository.projection.RatingAggregateView;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends BaseRepository<ReviewEntity, Long> {
 
+    /**
+     * 매장의 리뷰를 (created_at, id) 내림차순으로 커서 이후부터 조회합니다.
+     * rating 이 null 이면 모든 평점을, afterId 가 null 이면 첫 페이지를 조회합니다.
+     */
+    @Query("select r from ReviewEntity r where r.restaurantEntity.id = :restaurantId " +
+            "and (:rating is null or r.rating = :rating) " +
+            "and (:afterId is null or r.createdAt < :afterTime or (r.createdAt = :afterTime and r.id < :afterId)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<ReviewEntity> findRecentPageByRestaurant(@Param("restaurantId") Long restaurantId,
+                                                  @Param("rating") Double rating,
+                                                  @Param("afterTime") LocalDateTime afterTime,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
 
-    List<ReviewEntity> findReviewEntitiesByRestaurantEntity(RestaurantEntity restaurant);
+    /**
+     * 매장의 리뷰를 (rating, created_at, id) 내림차순으로 커서 이후부터 조회합니다.
+     * rating 이 null 이면 모든 평점을, afterId 가 null 이면 첫 페이지를 조회합니다.
+     */
+    @Query("select r from ReviewEntity r where r.restaurantEntity.id = :restaurantId " +
+            "and (:rating is null or r.rating = :rating) " +
+            "and (:afterId is null or r.rating < :afterRating or (r.rating = :afterRating " +
+            "and (r.createdAt < :afterTime or (r.createdAt = :afterTime and r.id < :afterId)))) " +
+            "order by r.rating desc, r.createdAt desc, r.id desc")
+    List<ReviewEntity> findRatingPageByRestaurant(@Param("restaurantId") Long restaurantId,
+                                                  @Param("rating") Double rating,
+                                                  @Param("afterRating") Double afterRating,
+                                                  @Param("afterTime") LocalDateTime afterTime,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    /**
+     * 수정/삭제 전 평점을 읽는 동안 다른 수정/삭제와 겹치지 않도록 리뷰 행을 잠그고 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from ReviewEntity r where r.id = :reviewId")
+    Optional<ReviewEntity> findByIdForUpdate(@Param("reviewId") Long reviewId);
+
+    @Query("select r.restaurantEntity.id as restaurantId, count(r) as reviewCount, sum(r.rating) as ratingSum, " +
+            "sum(case when r.rating = 1 then 1 else 0 end) as star1, " +
+            "sum(case when r.rating = 2 then 1 else 0 end) as star2, " +
+            "sum(case when r.rating = 3 then 1 else 0 end) as star3, " +
+            "sum(case when r.rating = 4 then 1 else 0 end) as star4, " +
+            "sum(case when r.rating = 5 then 1 else 0 end) as star5 " +
+            "from ReviewEntity r where r.restaurantEntity.id in :restaurantIds group by r.restaurantEntity.id")
+    List<RatingAggregateView> aggregateByRestaurantIdIn(@Param("restaurantIds") List<Long> restaurantIds);
 }
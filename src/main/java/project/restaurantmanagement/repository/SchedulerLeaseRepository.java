@@ -0,0 +1,47 @@
+package project.restaurantmanagement.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import project.restaurantmanagement.entity.SchedulerLeaseEntity;
+
+@Repository
+public interface SchedulerLeaseRepository extends BaseRepository<SchedulerLeaseEntity, String> {
+
+    /**
+     * 처음 사용하는 lease 행을 만듭니다. 이미 있으면 키 중복으로 실패합니다.
+     * 만료 시각은 노드의 시계가 아니라 DB 의 현재 시각(localtimestamp)에 ttl 을 더해 계산합니다. (이하 동일)
+     */
+    @Modifying
+    @Query(value = "insert into scheduler_lease (lease_name, owner, fencing_token, expires_at) " +
+            "values (:name, :owner, 1, timestampadd(microsecond, :ttlMicros, localtimestamp(6)))", nativeQuery = true)
+    int insert(@Param("name") String name,
+               @Param("owner") String owner,
+               @Param("ttlMicros") long ttlMicros);
+
+    /**
+     * 만료된 lease 를 owner 가 가져가고 fencing token 을 증가시킵니다.
+     * @return 가져왔으면 1
+     */
+    @Modifying
+    @Query(value = "update scheduler_lease set owner = :owner, fencing_token = fencing_token + 1, " +
+            "expires_at = timestampadd(microsecond, :ttlMicros, localtimestamp(6)) " +
+            "where lease_name = :name and expires_at < localtimestamp(6)", nativeQuery = true)
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("ttlMicros") long ttlMicros);
+
+    /**
+     * 아직 만료되지 않은, 같은 token 의 lease 만 지금부터 ttl 뒤로 연장합니다. (ttl 이 음수이면 만료)
+     * @return 연장했으면 1, 그 사이 다른 노드가 가져갔으면 0
+     */
+    @Modifying
+    @Query(value = "update scheduler_lease set expires_at = timestampadd(microsecond, :ttlMicros, localtimestamp(6)) " +
+            "where lease_name = :name and owner = :owner and fencing_token = :token " +
+            "and expires_at >= localtimestamp(6)", nativeQuery = true)
+    int renew(@Param("name") String name,
+              @Param("owner") String owner,
+              @Param("token") long token,
+              @Param("ttlMicros") long ttlMicros);
+}
@@ -0,0 +1,25 @@
+package project.restaurantmanagement.repository.projection;
+
+/**
+ * review 테이블에서 직접 계산한 매장별 평점 집계 프로젝션입니다.
+ * 평점 집계 재계산 작업이 저장된 집계와 비교할 때 사용합니다.
+ */
+
+public interface RatingAggregateView {
+
+    Long getRestaurantId();
+
+    long getReviewCount();
+
+    double getRatingSum();
+
+    long getStar1();
+
+    long getStar2();
+
+    long getStar3();
+
+    long getStar4();
+
+    long getStar5();
+}
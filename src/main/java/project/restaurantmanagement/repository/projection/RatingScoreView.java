@@ -0,0 +1,19 @@
+package project.restaurantmanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 순위표 점수 계산에 필요한 평점 집계 값만 조회하기 위한 프로젝션입니다.
+ * entity 가 아닌 값으로 조회되므로 영속성 컨텍스트에 남아 있는 이전 집계를 읽지 않습니다.
+ */
+
+public interface RatingScoreView {
+
+    Long getRestaurantId();
+
+    long getReviewCount();
+
+    double getRatingSum();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,15 @@
+package project.restaurantmanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 ID와 예약 시각만 조회하기 위한 프로젝션입니다.
+ * 노쇼 타이밍 휠을 적재할 때 사용합니다.
+ */
+
+public interface ReservationTimeView {
+
+    Long getId();
+
+    LocalDateTime getReservationTime();
+}
@@ -0,0 +1,18 @@
+package project.restaurantmanagement.repository.projection;
+
+/**
+ * 공간 인덱스 적재에 필요한 매장 정보만 조회하기 위한 프로젝션입니다.
+ */
+
+public interface RestaurantLocationView {
+
+    Long getId();
+
+    String getName();
+
+    String getLocation();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
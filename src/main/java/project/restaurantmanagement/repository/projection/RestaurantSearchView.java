@@ -0,0 +1,16 @@
+package project.restaurantmanagement.repository.projection;
+
+/**
+ * 검색 인덱스 적재에 필요한 매장 정보만 조회하기 위한 프로젝션입니다.
+ */
+
+public interface RestaurantSearchView {
+
+    Long getId();
+
+    String getName();
+
+    String getLocation();
+
+    String getDescription();
+}
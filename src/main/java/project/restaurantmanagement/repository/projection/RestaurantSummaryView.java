@@ -0,0 +1,14 @@
+package project.restaurantmanagement.repository.projection;
+
+/**
+ * 순위표에 표시할 매장 이름과 위치만 조회하기 위한 프로젝션입니다.
+ */
+
+public interface RestaurantSummaryView {
+
+    Long getId();
+
+    String getName();
+
+    String getLocation();
+}
@@ -0,0 +1,15 @@
+package project.restaurantmanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 ID와 수정 시각만 조회하기 위한 프로젝션입니다.
+ * 전체 엔티티를 읽지 않고 ETag 를 계산할 때 사용합니다.
+ */
+
+public interface RestaurantVersionView {
+
+    Long getId();
+
+    LocalDateTime getModifiedAt();
+}
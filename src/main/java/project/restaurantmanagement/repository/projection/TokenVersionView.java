@@ -0,0 +1,16 @@
+package project.restaurantmanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 ID와 토큰 버전, 버전이 바뀐 시각만 조회하기 위한 프로젝션입니다.
+ */
+
+public interface TokenVersionView {
+
+    Long getId();
+
+    long getTokenVersion();
+
+    LocalDateTime getTokenVersionChangedAt();
+}
@@ -0,0 +1,143 @@
+package project.restaurantmanagement.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.restaurantmanagement.entity.SchedulerLeaseEntity;
+import project.restaurantmanagement.repository.SchedulerLeaseRepository;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * scheduler_lease 테이블로 여러 인스턴스 중 한 노드만 스케줄 작업을 실행하도록 합니다.
+ * lease 는 만료 시각이 지난 경우에만 조건부 UPDATE 로 가져올 수 있고, 가져갈 때마다 fencing token 이 증가합니다.
+ * 작업은 쓰기 트랜잭션마다 renew 로 자신의 token 이 유효한지 확인하여, lease 를 잃은 뒤의 쓰기를 막습니다.
+ * 보유 노드가 죽으면 ttl 이 지난 뒤 다른 노드가 가져갑니다.
+ * 만료 시각은 DB 시계로 계산하므로 노드 간 시계 차이가 있어도 두 노드가 동시에 lease 를 갖지 않습니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaseManager {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.scheduler.lease.ttl-millis:60000}")
+    private long ttlMillis;
+
+    @Value("${spring.scheduler.lease.owner:}")
+    private String owner;
+
+    private final ConcurrentMap<String, Lease> held = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        if (owner.isBlank()) {
+            owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+    }
+
+    /**
+     * lease 를 가져옵니다. 이미 보유 중이면 연장합니다.
+     * @return 다른 노드가 보유 중이면 empty
+     */
+    public Optional<Lease> tryAcquire(String name) {
+        Lease current = held.get(name);
+        if (current != null && renew(current)) {
+            return Optional.of(current);
+        }
+        held.remove(name);
+
+        Long token = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.acquire(name, owner, ttlMillis * 1_000) == 1
+                        ? schedulerLeaseRepository.findById(name).map(SchedulerLeaseEntity::getFencingToken).orElse(null)
+                        : null);
+
+        if (token == null && !schedulerLeaseRepository.existsById(name)) {
+            token = create(name);
+        }
+
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        Lease lease = new Lease(name, owner, token);
+        held.put(name, lease);
+        log.info("scheduler lease acquired -> {}", lease);
+        return Optional.of(lease);
+    }
+
+    /**
+     * lease 가 아직 유효하면 ttl 만큼 연장합니다.
+     * 작업의 쓰기 트랜잭션 안에서 호출하면 그 트랜잭션에 참여하여 커밋까지 lease 행이 잠겨, 그 사이 다른 노드가 가져갈 수 없습니다.
+     * tryAcquire 에서의 내부 호출도 트랜잭션 안에서 실행되도록 프록시 대신 transactionTemplate 을 사용합니다.
+     */
+    public boolean renew(Lease lease) {
+        Boolean renewed = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.renew(lease.name(), lease.owner(), lease.token(), ttlMillis * 1_000) == 1);
+        return Boolean.TRUE.equals(renewed);
+    }
+
+    /**
+     * lease 를 즉시 만료시켜 다른 노드가 바로 가져갈 수 있게 합니다.
+     */
+    public void release(Lease lease) {
+        held.remove(lease.name(), lease);
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerLeaseRepository.renew(lease.name(), lease.owner(), lease.token(), -1_000));
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        for (Lease lease : held.values()) {
+            try {
+                release(lease);
+            } catch (RuntimeException e) {
+                log.warn("failed to release scheduler lease {}", lease, e);
+            }
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * 처음 사용하는 lease 행을 만듭니다.
+     * @return 동시에 다른 노드가 만들었으면 null
+     */
+    private Long create(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.insert(name, owner, ttlMillis * 1_000));
+            return 1L;
+        } catch (DataAccessException e) {
+            // 다른 노드가 먼저 만든 경우 (키 중복 또는 잠금 충돌)
+            log.debug("scheduler lease {} created by another node", name);
+            return null;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    public record Lease(String name, String owner, long token) {
+    }
+}
@@ -0,0 +1,71 @@
+package project.restaurantmanagement.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.repository.projection.RestaurantVersionView;
+import project.restaurantmanagement.service.RatingAggregateService;
+
+import java.util.List;
+
+/**
+ * 매장별 평점 집계를 review 테이블과 맞추는 재계산 작업입니다.
+ * 증감 갱신은 리뷰 변경과 같은 트랜잭션에서 이루어지지만, 직접 수정한 데이터나 집계 도입 이전 리뷰로 생긴 차이를 주기적으로 보정합니다.
+ * 매장 id 순으로 chunkSize 개씩 나누어 chunk 마다 트랜잭션을 나누며, lease 를 가진 한 노드만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingRebuildJob {
+
+    public static final String RATING_REBUILD_LEASE = "restaurant-rating-rebuild";
+
+    private final RestaurantRepository restaurantRepository;
+    private final RatingAggregateService ratingAggregateService;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaseManager leaseManager;
+
+    @Value("${spring.rating.rebuild-chunk-size:200}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${spring.rating.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        LeaseManager.Lease lease = leaseManager.tryAcquire(RATING_REBUILD_LEASE).orElse(null);
+        if (lease == null) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int scanned = 0;
+        int fixed = 0;
+
+        while (true) {
+            List<Long> ids = restaurantRepository.findVersionsByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize))
+                    .stream().map(RestaurantVersionView::getId).toList();
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer affected = transactionTemplate.execute(status ->
+                    leaseManager.renew(lease) ? ratingAggregateService.reconcile(ids) : null);
+
+            if (affected == null) {
+                log.warn("scheduler lease lost -> {}", lease);
+                return;
+            }
+
+            scanned += ids.size();
+            fixed += affected;
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        log.info("restaurant rating rebuild -> {} restaurants, {} fixed, {} ms",
+                scanned, fixed, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,168 @@
+package project.restaurantmanagement.scheduler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.restaurantmanagement.event.ReservationStatusChangedEvent;
+import project.restaurantmanagement.repository.ReservationRepository;
+import project.restaurantmanagement.repository.projection.ReservationTimeView;
+import project.restaurantmanagement.service.ReservationService;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static project.restaurantmanagement.model.type.ReservationStatus.ACCEPTED;
+
+/**
+ * 승인된 예약의 노쇼 취소 시각을 타이밍 휠로 관리합니다.
+ * 예약이 승인되면 (예약 시각 + 유예 시간) 에 등록하고, 1초 tick 마다 만료된 예약만 작은 묶음으로 취소합니다.
+ * 휠에는 lookahead 이내의 예약만 보관하며, 시작 시와 ReservationSchedule 의 주기 점검에서 다시 채웁니다.
+ * 취소는 status = ACCEPTED 조건의 UPDATE 이므로 중복 실행되어도 안전합니다.
+ * 여러 인스턴스에서는 각 노드가 자신이 승인한 예약을 처리하고, 전체 예약의 적재는 점검 lease 를 가진 노드만 합니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryWheel implements MeterBinder {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaseManager leaseManager;
+
+    @Value("${spring.reservation.no-show.grace-minutes:0}")
+    private long graceMinutes;
+
+    @Value("${spring.reservation.no-show.lookahead-minutes:60}")
+    private long lookaheadMinutes;
+
+    @Value("${spring.reservation.no-show.fire-batch-size:100}")
+    private int fireBatchSize;
+
+    @Value("${spring.reservation.no-show.chunk-size:500}")
+    private int chunkSize;
+
+    private TimingWheel wheel;
+    private final LongAdder cancelled = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        // 1초 x 60, 1분 x 60, 1시간 x 24 : 최대 하루 뒤까지 보관
+        wheel = new TimingWheel(1000, new int[]{60, 60, 24}, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (leaseManager.tryAcquire(ReservationSchedule.NO_SHOW_SWEEP_LEASE).isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int loaded = preload();
+        log.info("reservation expiry wheel loaded -> {} reservations in {} ms",
+                loaded, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 지금부터 lookahead 이내에 만료되는 승인 예약을 chunkSize 개씩 (예약 시각, id) 순서로 읽어 휠에 등록합니다.
+     * 이미 만료된 예약은 읽지 않고 ReservationSchedule 의 주기 점검이 chunk 단위로 취소합니다.
+     * 이미 등록된 예약은 그대로 유지됩니다.
+     * @return 조회한 예약 수
+     */
+    public int preload() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime afterTime = now.minusMinutes(graceMinutes);
+        LocalDateTime until = now.plusMinutes(lookaheadMinutes).minusMinutes(graceMinutes);
+        Long afterId = 0L;
+        int loaded = 0;
+
+        while (true) {
+            List<ReservationTimeView> reservations = reservationRepository.findTimesByStatus(
+                    ACCEPTED, until, afterTime, afterId, PageRequest.of(0, chunkSize));
+
+            for (ReservationTimeView reservation : reservations) {
+                schedule(reservation.getId(), reservation.getReservationTime());
+            }
+            loaded += reservations.size();
+
+            if (reservations.size() < chunkSize) {
+                return loaded;
+            }
+            ReservationTimeView last = reservations.get(reservations.size() - 1);
+            afterTime = last.getReservationTime();
+            afterId = last.getId();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+        if (event.getStatus() != ACCEPTED) {
+            wheel.cancel(event.getReservationId());
+            return;
+        }
+
+        schedule(event.getReservationId(), event.getReservationTime());
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        cancel(wheel.advance(System.currentTimeMillis()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reservation.expiry.pending", this, expiryWheel -> expiryWheel.wheel.size())
+                .description("노쇼 취소를 기다리는 승인 예약 수")
+                .register(registry);
+        FunctionCounter.builder("reservation.expiry.cancelled", cancelled, LongAdder::sum)
+                .register(registry);
+    }
+
+    /**
+     * 이미 만료된 예약도 다음 tick 에 취소되도록 등록합니다.
+     * (커밋 이후 이벤트 처리 중에는 새 트랜잭션을 열지 않기 위해 바로 취소하지 않음)
+     */
+    private void schedule(Long reservationId, LocalDateTime reservationTime) {
+        long now = System.currentTimeMillis();
+        long expiresAt = reservationTime.plusMinutes(graceMinutes)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // lookahead 밖의 예약은 주기 점검에서 등록
+        if (expiresAt >= Math.min(wheel.horizon(), now + lookaheadMinutes * 60_000)) {
+            return;
+        }
+        wheel.schedule(reservationId, Math.max(expiresAt, now + 1));
+    }
+
+    private void cancel(List<Long> reservationIds) {
+        for (int from = 0; from < reservationIds.size(); from += fireBatchSize) {
+            List<Long> batch = reservationIds.subList(from, Math.min(from + fireBatchSize, reservationIds.size()));
+            LocalDateTime now = LocalDateTime.now();
+
+            try {
+                Integer affected = transactionTemplate.execute(status ->
+                        reservationService.cancelNoShows(batch, now));
+                cancelled.add(affected == null ? 0 : affected);
+                log.info("no-show reservations cancelled -> {} of {}", affected, batch);
+            } catch (RuntimeException e) {
+                // 실패한 예약은 ReservationSchedule 의 주기 점검에서 다시 처리됨
+                log.warn("failed to cancel no-show reservations {}", batch, e);
+            }
+        }
+    }
+}
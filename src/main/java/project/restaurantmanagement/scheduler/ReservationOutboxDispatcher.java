@@ -0,0 +1,129 @@
+package project.restaurantmanagement.scheduler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.restaurantmanagement.dto.ReservationEventDto;
+import project.restaurantmanagement.entity.ReservationOutboxEntity;
+import project.restaurantmanagement.outbox.ReservationEventSink;
+import project.restaurantmanagement.repository.ReservationOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * reservation_outbox 의 전달되지 않은 예약 이벤트를 batch-size 개씩 id 순서로 읽어 모든 sink 에 전달합니다.
+ * 모든 sink 에 전달된 묶음만 전달 완료로 표시하고, 하나라도 실패하면 그 묶음부터 다음 주기에 다시 전달합니다. (at-least-once)
+ * lease 를 가진 한 노드만 id 순서대로 전달하므로 같은 예약의 이벤트 순서가 유지됩니다.
+ * 전달 완료 후 retention-hours 가 지난 행은 주기적으로 삭제합니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationOutboxDispatcher implements MeterBinder {
+
+    public static final String OUTBOX_DISPATCH_LEASE = "reservation-outbox-dispatch";
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final List<ReservationEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaseManager leaseManager;
+
+    @Value("${spring.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${spring.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    // 마지막 주기에 확인한 가장 오래된 미전달 이벤트의 대기 시간
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Scheduled(fixedDelayString = "${spring.outbox.poll-interval:1000}")
+    public void dispatch() {
+        LeaseManager.Lease lease = leaseManager.tryAcquire(OUTBOX_DISPATCH_LEASE).orElse(null);
+        if (lease == null) {
+            lagMillis.set(0);
+            return;
+        }
+
+        while (true) {
+            List<ReservationOutboxEntity> batch =
+                    reservationOutboxRepository.findByDispatchedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                lagMillis.set(0);
+                return;
+            }
+
+            lagMillis.set(Math.max(0, Duration.between(batch.get(0).getOccurredAt(), LocalDateTime.now()).toMillis()));
+
+            List<ReservationEventDto> events = ReservationEventDto.from(batch);
+            for (ReservationEventSink sink : sinks) {
+                try {
+                    sink.deliver(events);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    log.warn("failed to deliver reservation events #{}~#{} to {}", events.get(0).getEventId(),
+                            events.get(events.size() - 1).getEventId(), sink.name(), e);
+                    return;
+                }
+            }
+
+            List<Long> ids = batch.stream().map(ReservationOutboxEntity::getId).toList();
+            LocalDateTime now = LocalDateTime.now();
+            Integer marked = transactionTemplate.execute(status ->
+                    leaseManager.renew(lease) ? reservationOutboxRepository.markDispatched(ids, now) : null);
+
+            if (marked == null) {
+                log.warn("scheduler lease lost -> {}", lease);
+                return;
+            }
+
+            delivered.add(batch.size());
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${spring.outbox.cleanup-cron:0 30 * * * *}")
+    public void cleanup() {
+        LeaseManager.Lease lease = leaseManager.tryAcquire(OUTBOX_DISPATCH_LEASE).orElse(null);
+        if (lease == null) {
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status ->
+                leaseManager.renew(lease) ? reservationOutboxRepository.deleteDispatchedBefore(before) : null);
+
+        if (deleted != null && deleted > 0) {
+            log.info("reservation outbox cleaned up -> {} rows dispatched before {}", deleted, before);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reservation.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("가장 오래된 미전달 예약 이벤트의 대기 시간(초), lease 를 가진 노드만 측정")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("reservation.outbox.delivered", delivered, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("reservation.outbox.failures", failures, LongAdder::sum)
+                .register(registry);
+    }
+}
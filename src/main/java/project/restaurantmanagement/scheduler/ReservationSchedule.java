@@ -1,43 +1,93 @@
 package project.restaurantmanagement.scheduler;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import project.restaurantmanagement.entity.ReservationEntity;
-import project.restaurantmanagement.model.type.ReservationStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 import project.restaurantmanagement.repository.ReservationRepository;
+import project.restaurantmanagement.service.ReservationService;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static project.restaurantmanagement.model.type.ReservationStatus.ACCEPTED;
+
 /**
  * 예약 시간을 확인하고 관리하는 스케줄러 컴포넌트입니다.
- * 예약 시간이 지났는지 주기적으로 확인하고, 지난 예약을 취소 처리합니다.
+ * 노쇼 취소는 ReservationExpiryWheel 이 예약 시각에 맞춰 처리하며,
+ * 이 스케줄러는 휠이 놓친 예약(재시작, 취소 실패 등)을 정리하고 다음 구간의 예약을 휠에 채우는 주기 점검을 합니다.
+ * 여러 인스턴스 중 lease 를 가진 한 노드만 점검을 실행합니다.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReservationSchedule {
 
+    public static final String NO_SHOW_SWEEP_LEASE = "reservation-no-show-sweep";
+
     private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationExpiryWheel reservationExpiryWheel;
+    private final LeaseManager leaseManager;
+
+    @Value("${spring.reservation.no-show.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${spring.reservation.no-show.grace-minutes:0}")
+    private long graceMinutes;
 
     /**
-     * 매 분마다 실행되어, 승인된 예약 중 현재 시간 이후 10분 이내에 시작되는 예약을 확인하고,
-     * 이미 시작 시간이 지난 예약은 자동으로 취소 상태로 변경합니다.
+     * 기본 10분마다 실행되어, 승인된 예약 중 예약 시간이 지난 예약을 취소 상태로 변경합니다.
+     * 엔티티를 읽지 않고 chunkSize 개씩 id 를 골라 한 번의 UPDATE 로 변경하며, chunk 마다 트랜잭션을 나눕니다.
+     * 취소된 예약은 같은 트랜잭션에서 outbox 에 기록됩니다.
+     * 각 chunk 트랜잭션은 먼저 lease 를 연장하며, lease 를 잃었으면 변경 없이 중단합니다.
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분마다 실행
-    @Transactional
+    @Scheduled(cron = "${spring.reservation.no-show.sweep-cron:0 */10 * * * *}")
     public void verifyReservationTimings() {
+        LeaseManager.Lease lease = leaseManager.tryAcquire(NO_SHOW_SWEEP_LEASE).orElse(null);
+        if (lease == null) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
         LocalDateTime now = LocalDateTime.now();
-        // 현재 시간부터 10분 이내에 시작하는 예약을 조회
-        List<ReservationEntity> reservations = reservationRepository.findByStatusAndReservationTimeLessThanEqual(
-                ReservationStatus.ACCEPTED, now.plusMinutes(10));
-
-        for (ReservationEntity reservation : reservations) {
-            if (reservation.getReservationTime().isBefore(now)) {
-                reservation.setStatus(ReservationStatus.CANCELLED); // 예약 시간이 지났으면 예약 상태를 취소로 변경
-                reservationRepository.save(reservation);
+        int cancelled = 0;
+        int chunks = 0;
+
+        while (true) {
+            Integer affected = transactionTemplate.execute(status -> {
+                if (!leaseManager.renew(lease)) {
+                    return null;
+                }
+
+                List<Long> ids = reservationRepository.findIdsByStatusAndReservationTimeBefore(
+                        ACCEPTED, now.minusMinutes(graceMinutes), PageRequest.of(0, chunkSize));
+
+                return ids.isEmpty() ? 0 : reservationService.cancelNoShows(ids, now);
+            });
+
+            if (affected == null) {
+                log.warn("scheduler lease lost -> {}", lease);
+                return;
+            }
+
+            if (affected == 0) {
+                break;
             }
+
+            cancelled += affected;
+            chunks++;
+        }
+
+        if (cancelled > 0) {
+            log.info("no-show reservations cancelled -> {} rows in {} chunks, {} ms",
+                    cancelled, chunks, System.currentTimeMillis() - start);
         }
+
+        reservationExpiryWheel.preload();
     }
 }
@@ -0,0 +1,146 @@
+package project.restaurantmanagement.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * id 별 만료 시각을 관리하는 계층형 타이밍 휠입니다.
+ * 하위 휠은 tick 단위, 상위 휠은 하위 휠 한 바퀴 단위로 버킷을 나누며, 상위 버킷은 시간이 되면 하위 휠로 내려옵니다.
+ * 등록/취소는 O(1), tick 마다 해당 버킷만 확인하므로 만료 대상이 없을 때의 비용이 거의 없습니다.
+ * 만료 시각은 tick 단위로 올림하여, 만료 시각보다 일찍 꺼내지지 않습니다.
+ */
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final long[] levelTicks;
+    private final List<List<Entry>[]> levels = new ArrayList<>();
+    // 취소/재등록을 위한 id 별 현재 만료 시각 (버킷의 오래된 항목은 꺼낼 때 건너뜀)
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    private long currentTime;
+
+    /**
+     * @param wheelSizes 하위 휠부터 각 휠의 버킷 수 (예: 60초, 60분, 24시간)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int[] wheelSizes, long startTime) {
+        this.tickMillis = tickMillis;
+        this.levelTicks = new long[wheelSizes.length];
+        this.currentTime = startTime - Math.floorMod(startTime, tickMillis);
+
+        long levelTick = tickMillis;
+        for (int i = 0; i < wheelSizes.length; i++) {
+            List<Entry>[] buckets = new List[wheelSizes[i]];
+            for (int b = 0; b < buckets.length; b++) {
+                buckets[b] = new ArrayList<>();
+            }
+            levels.add(buckets);
+            levelTicks[i] = levelTick;
+            levelTick *= wheelSizes[i];
+        }
+    }
+
+    /**
+     * 휠에 등록할 수 있는 가장 먼 만료 시각(제외)
+     * 만료 시각은 tick 단위로 올림되므로, 휠이 담는 마지막 tick 을 넘는 시각부터는 등록할 수 없습니다.
+     */
+    public synchronized long horizon() {
+        int top = levels.size() - 1;
+        return currentTime + levelTicks[top] * levels.get(top).length - tickMillis + 1;
+    }
+
+    /**
+     * id 의 만료 시각을 등록합니다. 이미 등록된 id 면 만료 시각을 바꿉니다.
+     * @return 이미 만료 시각이 지나 바로 처리해야 하면 false (등록하지 않음)
+     * @throws IllegalArgumentException 만료 시각이 horizon 이후인 경우 (기존 등록은 그대로 유지)
+     */
+    public synchronized boolean schedule(long id, long expiresAt) {
+        if (expiresAt >= horizon()) {
+            throw new IllegalArgumentException("Expiry is beyond the wheel horizon: " + expiresAt);
+        }
+
+        long deadline = roundUp(expiresAt);
+        if (deadline <= currentTime) {
+            deadlines.remove(id);
+            return false;
+        }
+
+        place(new Entry(id, deadline));
+        deadlines.put(id, deadline);
+        return true;
+    }
+
+    public synchronized void cancel(long id) {
+        deadlines.remove(id);
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * now 까지 시간을 진행하고, 그 사이 만료된 id 를 반환합니다.
+     */
+    public synchronized List<Long> advance(long now) {
+        List<Long> expired = new ArrayList<>();
+
+        while (currentTime + tickMillis <= now) {
+            currentTime += tickMillis;
+
+            // 상위 휠의 버킷이 시작되는 시점이면 하위 휠로 내려보냄
+            for (int i = levels.size() - 1; i > 0; i--) {
+                if (currentTime % levelTicks[i] == 0) {
+                    for (Entry entry : drain(i, currentTime)) {
+                        if (entry.deadline() <= currentTime) {
+                            fire(entry, expired);
+                        } else {
+                            place(entry);
+                        }
+                    }
+                }
+            }
+
+            for (Entry entry : drain(0, currentTime)) {
+                fire(entry, expired);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 만료 시각이 들어가는 가장 낮은 휠의 버킷에 넣습니다. (horizon 안의 만료 시각만 전달됨)
+     */
+    private void place(Entry entry) {
+        for (int i = 0; i < levels.size(); i++) {
+            List<Entry>[] buckets = levels.get(i);
+            if (entry.deadline() < currentTime + levelTicks[i] * buckets.length) {
+                buckets[(int) Math.floorMod(entry.deadline() / levelTicks[i], (long) buckets.length)].add(entry);
+                return;
+            }
+        }
+    }
+
+    private List<Entry> drain(int level, long time) {
+        List<Entry>[] buckets = levels.get(level);
+        int index = (int) Math.floorMod(time / levelTicks[level], (long) buckets.length);
+        List<Entry> entries = buckets[index];
+        buckets[index] = new ArrayList<>();
+        return entries;
+    }
+
+    private void fire(Entry entry, List<Long> expired) {
+        // 취소되었거나 다른 시각으로 재등록된 항목은 건너뜀
+        if (deadlines.remove(entry.id(), entry.deadline())) {
+            expired.add(entry.id());
+        }
+    }
+
+    private long roundUp(long time) {
+        long remainder = Math.floorMod(time, tickMillis);
+        return remainder == 0 ? time : time - remainder + tickMillis;
+    }
+
+    private record Entry(long id, long deadline) {
+    }
+}
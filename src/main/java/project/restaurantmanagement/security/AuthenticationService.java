@@ -2,8 +2,11 @@ package project.restaurantmanagement.security;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
@@ -11,6 +14,11 @@ import project.restaurantmanagement.model.type.UserType;
 import project.restaurantmanagement.service.CustomerService;
 import project.restaurantmanagement.service.ManagerService;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * JWT 토큰을 사용하여 인증 정보를 생성하고 관리합니다.
  */
@@ -19,20 +27,40 @@ import project.restaurantmanagement.service.ManagerService;
 @Component
 public class AuthenticationService {
 
+    private static final Map<UserType, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserType.class);
+
+    static {
+        for (UserType userType : UserType.values()) {
+            AUTHORITIES.put(userType, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userType.name())));
+        }
+    }
+
     private final ManagerService managerService;
     private final CustomerService customerService;
-    private final TokenProvider tokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    // true 이면 사용자 테이블 조회 없이 토큰 클레임만으로 인증 객체를 생성합니다.
+    @Value("${spring.jwt.stateless:true}")
+    private boolean stateless;
 
     /**
-     * 주어진 JWT로부터 인증 객체를 생성합니다.
+     * 검증된 JWT의 인증 주체 정보로부터 인증 객체를 생성합니다.
+     * 인증 객체의 principal 에는 {@link UserPrincipal}이 저장됩니다.
+     * @return 폐기된 토큰이면 null
      */
-    public Authentication getAuthentication(String jwt) {
+    public Authentication getAuthentication(UserPrincipal principal) {
+
+        if (!tokenVersionRegistry.isCurrent(principal)) {
+            log.info("revoked token -> {}", principal.getEmail());
+            return null;
+        }
 
-        UserType userType = tokenProvider.getUserType(jwt);
-        String username = tokenProvider.getUsername(jwt);
+        if (stateless) {
+            return new UsernamePasswordAuthenticationToken(principal, null, AUTHORITIES.get(principal.getUserType()));
+        }
 
-        UserDetails userDetails = getUserDetailsService(userType).loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        UserDetails userDetails = getUserDetailsService(principal.getUserType()).loadUserByUsername(principal.getEmail());
+        return new UsernamePasswordAuthenticationToken(principal, null, userDetails.getAuthorities());
     }
 
     /**
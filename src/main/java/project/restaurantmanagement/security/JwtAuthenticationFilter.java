@@ -34,11 +34,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = this.resolveTokenFromRequest(request);
 
-        if(StringUtils.hasText(token) && this.tokenProvider.validateToken(token)) {
-            Authentication authentication = this.authenticationService.getAuthentication(token);
+        UserPrincipal principal = StringUtils.hasText(token) ? this.tokenProvider.getPrincipal(token) : null;
+
+        Authentication authentication = principal != null ? this.authenticationService.getAuthentication(principal) : null;
+
+        if(authentication != null) {
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.info(String.format("[%s] -> %s", this.tokenProvider.getUsername(token), request.getRequestURI()));
+            log.info("[{}] -> {}", principal.getEmail(), request.getRequestURI());
         }
 
         filterChain.doFilter(request, response);
@@ -1,5 +1,6 @@
 package project.restaurantmanagement.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,10 +39,14 @@ public class SecurityConfiguration {
                 .sessionManagement(e -> e.sessionCreationPolicy(
                         SessionCreationPolicy.STATELESS)) // 세션을 상태 없이 관리
                 .authorizeHttpRequests(e -> e
+                        // 스트리밍 응답 완료 후의 async/error 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+                        .permitAll()
                         .requestMatchers(
                                 "/customer/signin", "/customer/signup",
                                 "/manager/signin", "/manager/signup",
-                                "/restaurants/view")
+                                "/restaurants/view", "/restaurants/nearby", "/restaurants/search",
+                                "/restaurants/top")
                         .permitAll() // 지정된 경로는 인증 없이 접근 허용
                         .anyRequest()
                         .authenticated()) // 그 외 모든 요청은 인증 필요
@@ -2,8 +2,10 @@ package project.restaurantmanagement.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,27 +27,43 @@ public class TokenProvider {
 
     @Value("${spring.jwt.secret}")
     private String secretKey;
-    private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60; //토큰 만료 시간 (1시간)
+    static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60; //토큰 만료 시간 (1시간)
     private static final String TOKEN_PREFIX = "Bearer ";
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서명 키와 파서는 빈 생명주기 동안 한 번만 생성하여 재사용합니다.
+    private SecretKey signKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        this.signKey = getSignKey(secretKey);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signKey)
+                .build();
+    }
+
     /**
      * 새로운 토큰을 생성합니다.
      * @param id 사용자 ID
      * @param email 사용자 이메일
      * @param userType 사용자 유형
+     * @param tokenVersion 사용자의 현재 토큰 버전
      * @return 생성된 JWT 토큰
      */
-    public String generateToken(Long id, String email, UserType userType) {
+    public String generateToken(Long id, String email, UserType userType, long tokenVersion) {
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + TOKEN_EXPIRE_TIME);
 
         return Jwts.builder()
                 .claim("id", id.toString())
                 .claim("roles", userType)
+                .claim("ver", tokenVersion)
                 .subject(email)
                 .issuedAt(now)
                 .expiration(expirationDate)
-                .signWith(getSignKey(secretKey), Jwts.SIG.HS512)
+                .signWith(signKey, Jwts.SIG.HS512)
                 .compact();
     }
 
@@ -83,9 +101,7 @@ public class TokenProvider {
      */
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSignKey(secretKey))
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (JwtException e) {
@@ -129,4 +145,35 @@ public class TokenProvider {
 
         return UserType.valueOf(claims.get("roles", String.class));
     }
+
+    /**
+     * JWT를 한 번만 파싱/검증하여 인증 주체 정보를 생성합니다.
+     * 이미 검증된 토큰이면 캐시된 값을 반환합니다.
+     * @param token 검증할 JWT 토큰
+     * @return 인증 주체 정보, 토큰이 유효하지 않으면 null
+     */
+    public UserPrincipal getPrincipal(String token) {
+        UserPrincipal cached = verifiedTokenCache.get(token);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+
+        if (claims == null || claims.getExpiration().before(new Date())) {
+            return null;
+        }
+
+        Object version = claims.get("ver");
+
+        UserPrincipal principal = new UserPrincipal(
+                Long.parseLong(claims.get("id").toString()),
+                claims.getSubject(),
+                UserType.valueOf(claims.get("roles", String.class)),
+                version == null ? 0L : Long.parseLong(version.toString()));
+
+        verifiedTokenCache.put(token, principal, claims.getExpiration().getTime());
+        return principal;
+    }
 }
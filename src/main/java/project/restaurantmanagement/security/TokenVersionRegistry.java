@@ -0,0 +1,128 @@
+package project.restaurantmanagement.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.restaurantmanagement.event.TokenVersionChangedEvent;
+import project.restaurantmanagement.index.IncrementalReload;
+import project.restaurantmanagement.model.type.UserType;
+import project.restaurantmanagement.repository.CustomerRepository;
+import project.restaurantmanagement.repository.ManagerRepository;
+import project.restaurantmanagement.repository.projection.TokenVersionView;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 버전을 메모리에 보관하여 토큰 폐기 여부를 확인합니다.
+ * 요청마다 사용자 테이블을 조회하지 않도록, 지난번 조회 이후에 버전이 바뀐 사용자만 주기적으로 읽어 반영합니다.
+ * 이 노드에서 올린 버전은 커밋 직후 바로 반영하고, 다른 노드에서 올린 버전은 다음 갱신 때 반영됩니다.
+ * 버전이 바뀐 뒤 토큰 유효 시간이 지나면 이전 버전의 토큰은 모두 만료되었으므로 보관하지 않습니다.
+ * 초기 적재가 끝나기 전의 인증 요청은 적재가 끝날 때까지 기다립니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private static final Duration TOKEN_VALIDITY = Duration.ofMillis(TokenProvider.TOKEN_EXPIRE_TIME);
+
+    private final CustomerRepository customerRepository;
+    private final ManagerRepository managerRepository;
+
+    private final Map<Key, Version> versions = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @Value("${spring.jwt.revocation.reload-overlap-millis:300000}")
+    private long reloadOverlapMillis;
+
+    private IncrementalReload reload;
+
+    /**
+     * 토큰에 기록된 버전이 사용자의 현재 버전 이상인지 확인합니다.
+     */
+    public boolean isCurrent(UserPrincipal principal) {
+        if (!loaded) {
+            refresh();
+        }
+
+        Version version = versions.get(new Key(principal.getUserType(), principal.getId()));
+        long current = version == null ? 0L : version.tokenVersion();
+
+        return principal.getTokenVersion() >= current;
+    }
+
+    /**
+     * 처음에는 토큰 유효 시간 안에 버전이 바뀐 사용자를, 이후에는 지난번 조회 이후에 버전이 바뀐 사용자만 읽어 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.refresh-interval:30000}")
+    public synchronized void refresh() {
+        Duration overlap = Duration.ofMillis(reloadOverlapMillis);
+        List<Change> changes;
+        if (loaded) {
+            changes = reload.loadChanged(this::findChangedSince);
+        } else {
+            reload = new IncrementalReload(overlap);
+            changes = reload.loadAll(() -> findChangedSince(LocalDateTime.now().minus(TOKEN_VALIDITY).minus(overlap)));
+        }
+
+        for (Change change : changes) {
+            put(change.key(), change.version());
+        }
+        loaded = true;
+
+        // 이전 버전으로 발급된 토큰이 모두 만료된 사용자는 보관하지 않음
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(TOKEN_VALIDITY).minus(overlap);
+        versions.values().removeIf(version -> version.changedAt().isBefore(expiredBefore));
+
+        log.debug("token versions refreshed -> {} changed, {} kept", changes.size(), versions.size());
+    }
+
+    /**
+     * 이 노드에서 증가시킨 토큰 버전을 다음 갱신을 기다리지 않고 반영합니다.
+     */
+    @TransactionalEventListener
+    public void onTokenVersionChanged(TokenVersionChangedEvent event) {
+        put(new Key(event.getUserType(), event.getUserId()), new Version(event.getTokenVersion(), LocalDateTime.now()));
+    }
+
+    /**
+     * 버전은 증가만 하므로, 갱신과 이벤트가 어떤 순서로 반영되어도 더 큰 버전을 남깁니다.
+     */
+    private void put(Key key, Version version) {
+        versions.merge(key, version, (current, next) -> next.tokenVersion() >= current.tokenVersion() ? next : current);
+    }
+
+    private List<Change> findChangedSince(LocalDateTime changedAt) {
+        List<Change> changes = new ArrayList<>();
+        for (TokenVersionView view : customerRepository.findByTokenVersionChangedAtGreaterThanEqual(changedAt)) {
+            changes.add(Change.from(UserType.CUSTOMER, view));
+        }
+        for (TokenVersionView view : managerRepository.findByTokenVersionChangedAtGreaterThanEqual(changedAt)) {
+            changes.add(Change.from(UserType.MANAGER, view));
+        }
+        return changes;
+    }
+
+    private record Key(UserType userType, Long id) {
+    }
+
+    private record Version(long tokenVersion, LocalDateTime changedAt) {
+    }
+
+    private record Change(Key key, Version version) {
+
+        static Change from(UserType userType, TokenVersionView view) {
+            return new Change(new Key(userType, view.getId()),
+                    new Version(view.getTokenVersion(), view.getTokenVersionChangedAt()));
+        }
+    }
+}
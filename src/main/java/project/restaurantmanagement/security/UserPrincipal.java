@@ -0,0 +1,22 @@
+package project.restaurantmanagement.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import project.restaurantmanagement.model.type.UserType;
+
+/**
+ * 검증된 JWT에서 추출한 인증 주체 정보입니다.
+ * 필터에서 한 번만 생성되어 SecurityContext에 저장되고, 컨트롤러와 서비스는 이 값을 그대로 사용합니다.
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class UserPrincipal {
+
+    private final Long id;
+    private final String email;
+    private final UserType userType;
+    private final long tokenVersion;
+}
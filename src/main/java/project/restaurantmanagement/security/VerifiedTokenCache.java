@@ -0,0 +1,136 @@
+package project.restaurantmanagement.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 토큰을 보관하는 캐시입니다.
+ * 토큰의 SHA-256 digest 를 키로 사용하며, 각 항목은 토큰의 만료 시각(exp)에 함께 만료됩니다.
+ * 같은 클라이언트의 반복 요청은 서명 검증과 클레임 파싱을 건너뜁니다.
+ */
+
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    @Value("${spring.jwt.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile long lastSweep;
+
+    /**
+     * 캐시된 인증 주체 정보를 조회합니다.
+     * @return 캐시에 없거나 만료된 경우 null
+     */
+    public UserPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = digest(token);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.principal();
+    }
+
+    /**
+     * 검증된 토큰을 캐시에 저장합니다.
+     * 캐시가 가득 차면 만료된 항목을 정리하고, 그래도 공간이 없으면 저장하지 않습니다.
+     * @param expiresAt 토큰 만료 시각(epoch millis)
+     */
+    public void put(String token, UserPrincipal principal, long expiresAt) {
+        if (!enabled) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evictExpired();
+
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+
+        entries.put(digest(token), new Entry(principal, expiresAt));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.verified.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("검증 캐시에서 찾은 토큰 수")
+                .register(registry);
+        FunctionCounter.builder("jwt.verified.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("서명 검증이 필요했던 토큰 수")
+                .register(registry);
+        Gauge.builder("jwt.verified.cache.size", entries, ConcurrentHashMap::size)
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 만료된 항목을 정리합니다. 가득 찬 상태에서 매 요청마다 전체를 훑지 않도록 주기를 제한합니다.
+     */
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+
+        if (now - lastSweep < SWEEP_INTERVAL_MILLIS) {
+            return;
+        }
+
+        lastSweep = now;
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAt) {
+    }
+}
@@ -0,0 +1,100 @@
+package project.restaurantmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import project.restaurantmanagement.dto.AvailabilityDto;
+import project.restaurantmanagement.dto.RestaurantDto;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.index.RestaurantAvailabilityIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static project.restaurantmanagement.exception.ErrorCode.*;
+
+/**
+ * 매장의 예약 가능 시간대를 조회하는 서비스입니다.
+ * 예약 테이블을 읽지 않고 메모리의 시간대별 예약 좌석 수로 응답합니다.
+ * 실제 좌석 확보는 예약 시점에 SeatInventoryService 가 다시 확인하므로, 조회 결과는 참고용입니다.
+ */
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    private static final int DEFAULT_DAYS = 7;
+    private static final int MAX_DAYS = 31;
+
+    private final RestaurantService restaurantService;
+    private final RestaurantAvailabilityIndex restaurantAvailabilityIndex;
+
+    // 조회할 수 있는 가장 먼 날짜 (오늘부터의 일 수), 메모리에 보관하는 날짜 수의 상한이기도 함
+    @Value("${spring.availability.horizon-days:90}")
+    private int horizonDays;
+
+    /**
+     * from ~ to(포함) 기간 중 party 명이 예약할 수 있는 시간대 조회
+     * 기간을 지정하지 않으면 오늘부터 7일간을 조회합니다.
+     * 시작일은 오늘부터 horizon-days 이내여야 하며, 종료일은 horizon-days 까지로 잘립니다.
+     */
+    public AvailabilityDto viewAvailability(Long restaurantId, LocalDate from, LocalDate to, Integer party) {
+        RestaurantDto restaurant = restaurantService.viewRestaurant(restaurantId);
+        if (restaurant.getSeatCapacity() == null) {
+            throw new GlobalException(SEAT_CAPACITY_NOT_SET);
+        }
+
+        int people = party == null ? 1 : party;
+        if (people < 1) {
+            throw new GlobalException(INVALID_RESERVATION_REQUEST);
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate start = from == null ? today : from;
+        LocalDate end = to == null ? start.plusDays(DEFAULT_DAYS - 1) : to;
+        if (end.isBefore(start) || end.isAfter(start.plusDays(MAX_DAYS - 1))) {
+            throw new GlobalException(INVALID_DATE_RANGE);
+        }
+
+        // 조회한 날짜는 인덱스에 보관되므로, 지난 날짜와 먼 미래 날짜는 받지 않음
+        LocalDate horizon = today.plusDays(horizonDays);
+        if (start.isBefore(today) || start.isAfter(horizon)) {
+            throw new GlobalException(INVALID_DATE_RANGE);
+        }
+        if (end.isAfter(horizon)) {
+            end = horizon;
+        }
+
+        int slotMinutes = restaurant.getSlotMinutes() == null
+                ? SeatInventoryService.DEFAULT_SLOT_MINUTES : restaurant.getSlotMinutes();
+        int capacity = restaurant.getSeatCapacity();
+        List<AtomicIntegerArray> occupancy =
+                restaurantAvailabilityIndex.occupancy(restaurantId, slotMinutes, start, end);
+
+        // 이미 끝난 시간대는 제외
+        LocalDateTime now = LocalDateTime.now();
+        List<AvailabilityDto.Slot> slots = new ArrayList<>();
+        for (int day = 0; day < occupancy.size(); day++) {
+            AtomicIntegerArray reserved = occupancy.get(day);
+            LocalDateTime dayStart = start.plusDays(day).atStartOfDay();
+
+            for (int i = 0; i < reserved.length(); i++) {
+                int remaining = capacity - reserved.get(i);
+                LocalDateTime slotTime = dayStart.plusMinutes((long) i * slotMinutes);
+                if (remaining >= people && slotTime.plusMinutes(slotMinutes).isAfter(now)) {
+                    slots.add(new AvailabilityDto.Slot(slotTime, remaining));
+                }
+            }
+        }
+
+        return AvailabilityDto.builder()
+                .restaurantId(restaurantId)
+                .party(people)
+                .slotMinutes(slotMinutes)
+                .slots(slots)
+                .build();
+    }
+}
@@ -5,18 +5,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import project.restaurantmanagement.dto.*;
 import project.restaurantmanagement.entity.CustomerEntity;
 import project.restaurantmanagement.entity.ReservationEntity;
 import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.event.ReservationStatusChangedEvent;
+import project.restaurantmanagement.event.TokenVersionChangedEvent;
 import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.model.type.ReservationStatus;
 import project.restaurantmanagement.repository.CustomerRepository;
 import project.restaurantmanagement.repository.ReservationRepository;
 import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.security.PasswordHashingService;
 import project.restaurantmanagement.security.TokenProvider;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static project.restaurantmanagement.exception.ErrorCode.*;
 import static project.restaurantmanagement.model.type.ReservationStatus.*;
@@ -35,7 +47,13 @@ public class CustomerService implements UserDetailsService {
     private final RestaurantRepository restaurantRepository;
     private final ReservationRepository reservationRepository;
     private final TokenProvider tokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final RestaurantService restaurantService;
+    private final SeatInventoryService seatInventoryService;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyStore idempotencyStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationOutboxService reservationOutboxService;
 
     /**
      * 사용자 이름(이메일)을 바탕으로 사용자 세부 정보를 로드합니다.
@@ -57,7 +75,7 @@ public class CustomerService implements UserDetailsService {
         }
 
         log.info("register user -> {}", signUpRequest.getEmail());
-        signUpRequest.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
+        signUpRequest.setPassword(passwordHashingService.encode(signUpRequest.getPassword()));
         log.info("password -> {}", signUpRequest.getPassword());
 
         CustomerEntity saved = customerRepository.save(CustomerEntity.from(signUpRequest));
@@ -78,11 +96,16 @@ public class CustomerService implements UserDetailsService {
         CustomerEntity customer = customerRepository.findByEmail(signInRequest.getEmail())
                 .orElseThrow(() -> new GlobalException(USER_NOT_EXIST));
 
-        if (!passwordEncoder.matches(signInRequest.getPassword(), customer.getPassword())) {
+        if (!passwordHashingService.matches(signInRequest.getPassword(), customer.getPassword())) {
             throw new GlobalException(WRONG_PASSWORD);
         }
 
-        String token = tokenProvider.generateToken(customer.getId(), customer.getEmail(), customer.getUserType());
+        // 설정된 BCrypt cost 가 올라갔으면 로그인 시점에 새 cost 로 재암호화
+        if (passwordHashingService.needsRehash(customer.getPassword())) {
+            customer.setPassword(passwordHashingService.encode(signInRequest.getPassword()));
+        }
+
+        String token = tokenProvider.generateToken(customer.getId(), customer.getEmail(), customer.getUserType(), customer.getTokenVersion());
 
         return SignInDto.Response.builder()
                 .email(customer.getEmail())
@@ -92,37 +115,111 @@ public class CustomerService implements UserDetailsService {
     }
 
     /**
-     * 예약 생성
-     * 사용자 인증 후 예약 정보 저장
+     * 모든 기기에서 로그아웃
+     * 토큰 버전을 올려 지금까지 발급된 토큰을 모두 무효화하며, 이후에는 다시 로그인해야 합니다.
      */
     @Transactional
-    public ReservationDto createReservation(RegisterReservationDto request, String header) {
+    public String signOutEverywhere(UserPrincipal principal) {
+        CustomerEntity customer = customerRepository.findById(principal.getId())
+                .orElseThrow(() -> new GlobalException(CUSTOMER_NOT_EXIST));
+
+        customer.setTokenVersion(customer.getTokenVersion() + 1);
+        customer.setTokenVersionChangedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new TokenVersionChangedEvent(customer.getUserType(), customer.getId(),
+                customer.getTokenVersion()));
+
+        return "모든 기기에서 로그아웃되었습니다.";
+    }
+
+    /**
+     * Idempotency-Key 를 사용하는 예약 생성
+     * 같은 키로 재시도하면 예약을 다시 만들지 않고 첫 요청에서 만든 예약을 반환합니다.
+     * 키는 예약과 같은 트랜잭션에서 기록되며, 동시에 같은 키로 들어온 요청은 키 중복으로 롤백된 뒤 먼저 만든 예약으로 응답합니다.
+     */
+    public ReservationDto createReservation(RegisterReservationDto request, UserPrincipal principal,
+                                            String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createReservation(request, principal);
+        }
+
+        idempotencyStore.checkKey(idempotencyKey);
+        String fingerprint = request.getRestaurantId() + "|" + request.getPeopleCount() + "|" + request.getReservationTime();
+
+        Optional<ReservationDto> replayed = replay(principal.getId(), idempotencyKey, fingerprint);
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
+
+        try {
+            return createReservation(request, principal, idempotencyKey, fingerprint);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 다른 요청이 먼저 커밋됨
+            return replay(principal.getId(), idempotencyKey, fingerprint).orElseThrow(() -> e);
+        } catch (PessimisticLockingFailureException e) {
+            // 같은 키의 다른 요청이 아직 커밋되지 않음
+            throw new GlobalException(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * 예약 생성
+     * 사용자 인증 후 예약 정보 저장, 해당 시간대의 좌석이 남아 있어야 예약 가능
+     */
+    public ReservationDto createReservation(RegisterReservationDto request, UserPrincipal principal) {
+        return createReservation(request, principal, null, null);
+    }
+
+    private Optional<ReservationDto> replay(Long customerId, String idempotencyKey, String fingerprint) {
+        return idempotencyStore.findReservationId(customerId, idempotencyKey, fingerprint)
+                .map(reservationId -> reservationRepository.findById(reservationId)
+                        .map(ReservationDto::from)
+                        .orElseThrow(() -> new GlobalException(RESERVATION_NOT_EXIST)));
+    }
+
+    private ReservationDto createReservation(RegisterReservationDto request, UserPrincipal principal,
+                                             String idempotencyKey, String fingerprint) {
         log.info("Creating reservation at {}", request.getReservationTime());
-        String token = tokenProvider.getToken(header);
-        Long customerId = tokenProvider.getId(token);
 
-        CustomerEntity customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new GlobalException(USER_NOT_EXIST));
-        RestaurantEntity restaurant = restaurantRepository.findById(request.getRestaurantId())
-                .orElseThrow(() -> new GlobalException(RESTAURANT_NOT_EXIST));
+        if (request.getPeopleCount() == null || request.getPeopleCount() < 1 || request.getReservationTime() == null) {
+            throw new GlobalException(INVALID_RESERVATION_REQUEST);
+        }
+
+        // 시간대 좌석 행은 예약 트랜잭션 시작 전에 준비
+        RestaurantDto restaurantInfo = restaurantService.viewRestaurant(request.getRestaurantId());
+        seatInventoryService.prepareSlot(restaurantInfo.getRestaurantId(), restaurantInfo.getSeatCapacity(),
+                restaurantInfo.getSlotMinutes(), request.getReservationTime());
+
+        return transactionTemplate.execute(status -> {
+            CustomerEntity customer = customerRepository.findById(principal.getId())
+                    .orElseThrow(() -> new GlobalException(USER_NOT_EXIST));
+            RestaurantEntity restaurant = restaurantRepository.findById(request.getRestaurantId())
+                    .orElseThrow(() -> new GlobalException(RESTAURANT_NOT_EXIST));
+
+            ReservationEntity reservationEntity = ReservationEntity.of(request, customer, restaurant);
 
-        ReservationEntity reservationEntity = ReservationEntity.of(request, customer, restaurant);
+            ReservationEntity savedEntity = reservationRepository.save(reservationEntity);
 
-        ReservationEntity savedEntity = reservationRepository.save(reservationEntity);
+            // 같은 키가 이미 있으면 키 중복으로 예약 저장도 롤백됨
+            if (idempotencyKey != null) {
+                idempotencyStore.record(customer.getId(), idempotencyKey, fingerprint, savedEntity.getId());
+            }
 
-        return ReservationDto.from(savedEntity);
+            // 좌석이 부족하면 예외가 발생하여 예약 저장도 롤백됨
+            seatInventoryService.reserve(restaurant, request.getReservationTime(), request.getPeopleCount());
+            reservationOutboxService.append(List.of(savedEntity.getId()));
+
+            return ReservationDto.from(savedEntity);
+        });
     }
 
     /**
      * 방문 확인 처리
      * 예약 정보와 방문자 정보가 일치해야만 방문 처리 가능
+     * 승인 상태인 경우에만 조건부 UPDATE 로 완료 처리하므로, 그 사이 노쇼로 취소된 예약은 방문 처리되지 않습니다.
      */
     @Transactional
-    public String visitRestaurant(VisitRestaurantDto request, Long reservationId, String header) {
-        String token = tokenProvider.getToken(header);
-        Long customerId = tokenProvider.getId(token);
-
-        CustomerEntity customer = customerRepository.findById(customerId)
+    public String visitRestaurant(VisitRestaurantDto request, Long reservationId, UserPrincipal principal) {
+        CustomerEntity customer = customerRepository.findById(principal.getId())
                 .orElseThrow(() -> new GlobalException(USER_NOT_EXIST));
 
         ReservationEntity reservation = reservationRepository.findById(reservationId)
@@ -131,11 +228,18 @@ public class CustomerService implements UserDetailsService {
         // 방문자랑 예약자 확인
         checkVisitForm(customer, request);
         // 예약 승인 되었는지 확인
-        checkReservation(reservation);
+        checkReservation(reservation.getStatus());
+
+        if (reservationRepository.markVisited(reservationId, ACCEPTED, COMPLETED, LocalDateTime.now()) == 0) {
+            // 조회 이후 다른 요청(노쇼 취소, 중복 방문 확인)이 먼저 상태를 바꾼 경우
+            checkReservation(reservationRepository.findStatusById(reservationId)
+                    .orElseThrow(() -> new GlobalException(RESERVATION_NOT_EXIST)));
+            throw new GlobalException(RESERVATION_ALREADY_PROCESSED);
+        }
+        reservationOutboxService.append(List.of(reservation.getId()));
 
-        reservation.setStatus(COMPLETED);
-        reservation.setVisited(true);
-        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(reservation.getId(),
+                reservation.getRestaurantEntity().getId(), COMPLETED, reservation.getReservationTime()));
 
         return "예약 방문 처리가 완료되었습니다.";
     }
@@ -152,19 +256,19 @@ public class CustomerService implements UserDetailsService {
         }
     }
 
-    private void checkReservation(ReservationEntity reservation) {
+    private void checkReservation(ReservationStatus status) {
         // 이미 취소된 예약인 경우
-        if (reservation.getStatus() == CANCELLED) {
+        if (status == CANCELLED) {
             throw new GlobalException(RESERVATION_ALREADY_CANCELED);
         }
 
         // 이미 완료 처리된 예약인 경우
-        if (reservation.getStatus() == COMPLETED) {
+        if (status == COMPLETED) {
             throw new GlobalException(RESERVATION_ALREADY_VISITED);
         }
 
         // 아직 승인이 된 예약이 아닌 경우
-        if(reservation.getStatus() == PENDING) {
+        if(status == PENDING) {
             throw new GlobalException(RESERVATION_NOT_PROCESSED);
         }
     }
@@ -0,0 +1,95 @@
+package project.restaurantmanagement.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.restaurantmanagement.entity.ReservationIdempotencyEntity;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.repository.ReservationIdempotencyRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static project.restaurantmanagement.exception.ErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static project.restaurantmanagement.exception.ErrorCode.INVALID_IDEMPOTENCY_KEY;
+
+/**
+ * 예약 생성 Idempotency-Key 를 reservation_idempotency 테이블에 보관하는 저장소입니다.
+ * 키는 예약과 같은 트랜잭션에서 기록되므로, 요청이 어느 노드로 가든 같은 키의 예약은 한 번만 만들어집니다.
+ * 같은 키의 동시 요청은 유니크 키에서 먼저 기록한 트랜잭션이 끝날 때까지 기다린 뒤 키 중복으로 실패하며, 호출자는 기록된 예약으로 응답합니다.
+ * 실패한 요청은 키도 함께 롤백되므로 재시도하면 다시 처리됩니다. 보관 기간(ttl-seconds)이 지난 키는 주기적으로 삭제합니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore implements MeterBinder {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final ReservationIdempotencyRepository reservationIdempotencyRepository;
+
+    @Value("${spring.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    private final LongAdder replays = new LongAdder();
+
+    public void checkKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new GlobalException(INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+
+    /**
+     * 같은 키로 이미 만들어진 예약 id 를 찾습니다.
+     * @return 처음 쓰는 키면 empty
+     */
+    public Optional<Long> findReservationId(Long customerId, String key, String fingerprint) {
+        Optional<ReservationIdempotencyEntity> existing =
+                reservationIdempotencyRepository.findByCustomerIdAndIdempotencyKey(customerId, key);
+
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (!existing.get().getFingerprint().equals(fingerprint)) {
+            throw new GlobalException(IDEMPOTENCY_KEY_REUSED);
+        }
+
+        replays.increment();
+        log.info("replaying idempotent request -> customer {}, key {}", customerId, key);
+        return Optional.of(existing.get().getReservationId());
+    }
+
+    /**
+     * 예약을 만든 트랜잭션 안에서 키를 기록합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long customerId, String key, String fingerprint, Long reservationId) {
+        reservationIdempotencyRepository.insert(customerId, key, fingerprint, reservationId, LocalDateTime.now());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${spring.idempotency.cleanup-cron:0 15 * * * *}")
+    public void cleanup() {
+        int deleted = reservationIdempotencyRepository.deleteCreatedBefore(LocalDateTime.now().minusSeconds(ttlSeconds));
+        if (deleted > 0) {
+            log.info("idempotency keys expired -> {}", deleted);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("idempotency.replays", replays, LongAdder::sum)
+                .description("저장된 결과로 응답한 재시도 요청 수")
+                .register(registry);
+    }
+}
@@ -2,19 +2,27 @@ package project.restaurantmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.restaurantmanagement.config.CacheConfig;
 import project.restaurantmanagement.dto.*;
 import project.restaurantmanagement.entity.ManagerEntity;
 import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.event.RestaurantRegisteredEvent;
+import project.restaurantmanagement.event.TokenVersionChangedEvent;
 import project.restaurantmanagement.exception.GlobalException;
 import project.restaurantmanagement.repository.ManagerRepository;
 import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.security.PasswordHashingService;
 import project.restaurantmanagement.security.TokenProvider;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDateTime;
 
 import static project.restaurantmanagement.exception.ErrorCode.*;
 
@@ -30,8 +38,10 @@ public class ManagerService implements UserDetailsService {
 
     private final ManagerRepository managerRepository;
     private final RestaurantRepository restaurantRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final TokenProvider tokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RatingAggregateService ratingAggregateService;
 
     /**
      * 사용자 이름(이메일)을 바탕으로 사용자 세부 정보를 로드합니다.
@@ -53,7 +63,7 @@ public class ManagerService implements UserDetailsService {
         }
 
         log.info("register user -> {}", signUpRequest.getEmail());
-        signUpRequest.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
+        signUpRequest.setPassword(passwordHashingService.encode(signUpRequest.getPassword()));
         log.info("password -> {}", signUpRequest.getPassword());
 
         ManagerEntity saved = managerRepository.save(ManagerEntity.from(signUpRequest));
@@ -73,11 +83,16 @@ public class ManagerService implements UserDetailsService {
         ManagerEntity managerEntity = managerRepository.findByEmail(signInRequest.getEmail())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + signInRequest.getEmail()));
 
-        if (!passwordEncoder.matches(signInRequest.getPassword(), managerEntity.getPassword())) {
+        if (!passwordHashingService.matches(signInRequest.getPassword(), managerEntity.getPassword())) {
             throw new GlobalException(WRONG_PASSWORD);
         }
 
-        String token = tokenProvider.generateToken(managerEntity.getId(), managerEntity.getEmail(), managerEntity.getUserType());
+        // 설정된 BCrypt cost 가 올라갔으면 로그인 시점에 새 cost 로 재암호화
+        if (passwordHashingService.needsRehash(managerEntity.getPassword())) {
+            managerEntity.setPassword(passwordHashingService.encode(signInRequest.getPassword()));
+        }
+
+        String token = tokenProvider.generateToken(managerEntity.getId(), managerEntity.getEmail(), managerEntity.getUserType(), managerEntity.getTokenVersion());
 
         return SignInDto.Response.builder()
                 .email(managerEntity.getEmail())
@@ -87,19 +102,55 @@ public class ManagerService implements UserDetailsService {
     }
 
     /**
-     * 매니저가 관리하는 매장 생성
+     * 모든 기기에서 로그아웃
+     * 토큰 버전을 올려 지금까지 발급된 토큰을 모두 무효화하며, 이후에는 다시 로그인해야 합니다.
      */
     @Transactional
-    public RestaurantDto createRestaurant(RegisterRestaurantDto registerRestaurantDto, String header) {
+    public String signOutEverywhere(UserPrincipal principal) {
+        ManagerEntity managerEntity = managerRepository.findById(principal.getId())
+                .orElseThrow(() -> new GlobalException(MANAGER_NOT_EXIST));
 
-        String token = tokenProvider.getToken(header);
-        String email = tokenProvider.getUsername(token);
+        managerEntity.setTokenVersion(managerEntity.getTokenVersion() + 1);
+        managerEntity.setTokenVersionChangedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new TokenVersionChangedEvent(managerEntity.getUserType(), managerEntity.getId(),
+                managerEntity.getTokenVersion()));
+
+        return "모든 기기에서 로그아웃되었습니다.";
+    }
+
+    /**
+     * 매니저가 관리하는 매장 생성
+     * 같은 ID 로 남아 있을 수 있는 매장 캐시 항목을 무효화합니다.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESTAURANT_CACHE, key = "#result.restaurantId")
+    public RestaurantDto createRestaurant(RegisterRestaurantDto registerRestaurantDto, UserPrincipal principal) {
 
-        ManagerEntity manager = managerRepository.findByEmail(email)
+        ManagerEntity manager = managerRepository.findById(principal.getId())
                 .orElseThrow(() -> new GlobalException(MANAGER_NOT_EXIST));
 
+        checkSlotSetting(registerRestaurantDto);
+
         RestaurantEntity savedRestaurant = restaurantRepository.save(RestaurantEntity.of(registerRestaurantDto, manager));
+        ratingAggregateService.create(savedRestaurant.getId());
+
+        eventPublisher.publishEvent(new RestaurantRegisteredEvent(
+                savedRestaurant.getId(), savedRestaurant.getName(), savedRestaurant.getLocation(),
+                savedRestaurant.getDescription(), savedRestaurant.getLatitude(), savedRestaurant.getLongitude()));
 
         return RestaurantDto.from(savedRestaurant);
     }
+
+    /**
+     * 좌석 수는 1 이상, 시간대 길이는 하루(1440분)를 나누어떨어지게 하는 값이어야 합니다.
+     */
+    private void checkSlotSetting(RegisterRestaurantDto registerRestaurantDto) {
+        Integer seatCapacity = registerRestaurantDto.getSeatCapacity();
+        Integer slotMinutes = registerRestaurantDto.getSlotMinutes();
+
+        if ((seatCapacity != null && seatCapacity < 1)
+                || (slotMinutes != null && (slotMinutes < 1 || 1440 % slotMinutes != 0))) {
+            throw new GlobalException(INVALID_SLOT_SETTING);
+        }
+    }
 }
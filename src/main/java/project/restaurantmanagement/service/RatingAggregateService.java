@@ -0,0 +1,132 @@
+package project.restaurantmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.restaurantmanagement.entity.RestaurantRatingEntity;
+import project.restaurantmanagement.event.RestaurantRatingChangedEvent;
+import project.restaurantmanagement.model.type.Rating;
+import project.restaurantmanagement.repository.RestaurantRatingRepository;
+import project.restaurantmanagement.repository.ReviewRepository;
+import project.restaurantmanagement.repository.projection.RatingAggregateView;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매장별 평점 집계(restaurant_rating)를 관리하는 서비스입니다.
+ * 리뷰 추가/수정/삭제 시 리뷰를 다시 읽지 않고, 같은 트랜잭션에서 리뷰 수/합계/평점별 개수에 증감값만 더합니다.
+ * 집계는 매장 상세 캐시에 담지 않고 조회 시마다 집계 행을 읽으므로, 변경 후 캐시를 비울 필요가 없습니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingAggregateService {
+
+    private final RestaurantRatingRepository restaurantRatingRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 새 매장의 빈 집계 행을 만듭니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void create(Long restaurantId) {
+        restaurantRatingRepository.insert(restaurantId, 0, 0, 0, 0, 0, 0, 0, LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewAdded(Long restaurantId, Rating rating) {
+        apply(restaurantId, 1, rating, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewUpdated(Long restaurantId, Rating before, Rating after) {
+        if (before != after) {
+            apply(restaurantId, 0, after, before);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewDeleted(Long restaurantId, Rating rating) {
+        apply(restaurantId, -1, null, rating);
+    }
+
+    /**
+     * 리뷰 테이블에서 직접 계산한 값과 저장된 집계를 비교하여 다르면 덮어씁니다.
+     * 집계 행을 먼저 잠가 그 사이의 리뷰 변경과 겹치지 않게 합니다.
+     * @return 보정한 매장 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int reconcile(List<Long> restaurantIds) {
+        Map<Long, RestaurantRatingEntity> stored = restaurantRatingRepository.findAllForUpdate(restaurantIds).stream()
+                .collect(Collectors.toMap(RestaurantRatingEntity::getRestaurantId, Function.identity()));
+        Map<Long, RatingAggregateView> actual = reviewRepository.aggregateByRestaurantIdIn(restaurantIds).stream()
+                .collect(Collectors.toMap(RatingAggregateView::getRestaurantId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int fixed = 0;
+        for (Long restaurantId : restaurantIds) {
+            RestaurantRatingEntity rating = stored.get(restaurantId);
+            RatingAggregateView view = actual.get(restaurantId);
+            long[] histogram = view == null ? new long[5]
+                    : new long[]{view.getStar1(), view.getStar2(), view.getStar3(), view.getStar4(), view.getStar5()};
+            long count = view == null ? 0 : view.getReviewCount();
+            double sum = view == null ? 0 : view.getRatingSum();
+
+            if (rating == null) {
+                restaurantRatingRepository.insert(restaurantId, count, sum,
+                        histogram[0], histogram[1], histogram[2], histogram[3], histogram[4], now);
+            } else if (rating.getReviewCount() != count || Math.abs(rating.getRatingSum() - sum) > 1e-6
+                    || !Arrays.equals(rating.getHistogram(), histogram)) {
+                log.warn("rating aggregate drift -> restaurant {}, stored count {} sum {}, actual count {} sum {}",
+                        restaurantId, rating.getReviewCount(), rating.getRatingSum(), count, sum);
+                restaurantRatingRepository.overwrite(restaurantId, count, sum,
+                        histogram[0], histogram[1], histogram[2], histogram[3], histogram[4], now);
+            } else {
+                continue;
+            }
+
+            fixed++;
+            eventPublisher.publishEvent(new RestaurantRatingChangedEvent(restaurantId));
+        }
+        return fixed;
+    }
+
+    /**
+     * @param added   더해지는 평점 (없으면 null)
+     * @param removed 빠지는 평점 (없으면 null)
+     */
+    private void apply(Long restaurantId, int count, Rating added, Rating removed) {
+        long[] stars = new long[5];
+        double sum = 0;
+
+        if (added != null) {
+            stars[added.ordinal()]++;
+            sum += added.getRateValue();
+        }
+        if (removed != null) {
+            stars[removed.ordinal()]--;
+            sum -= removed.getRateValue();
+        }
+
+        int updated = restaurantRatingRepository.applyDelta(restaurantId, count, sum,
+                stars[0], stars[1], stars[2], stars[3], stars[4], LocalDateTime.now());
+
+        // 집계 행이 없던 매장(집계 도입 이전 매장)은 리뷰 테이블에서 계산하여 만듦
+        if (updated == 0) {
+            reconcile(List.of(restaurantId));
+            return;
+        }
+
+        eventPublisher.publishEvent(new RestaurantRatingChangedEvent(restaurantId));
+    }
+}
@@ -0,0 +1,167 @@
+package project.restaurantmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import project.restaurantmanagement.entity.ReservationEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.model.type.ExportFormat;
+import project.restaurantmanagement.model.type.ReservationStatus;
+import project.restaurantmanagement.repository.ReservationRepository;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static project.restaurantmanagement.exception.ErrorCode.*;
+
+/**
+ * 매장 예약 내역을 CSV / NDJSON 으로 내보내는 서비스입니다.
+ * 예약을 목록으로 모으지 않고 DB 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰며,
+ * 일정 행마다 영속성 컨텍스트를 비워 내보내는 행 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationExportService {
+
+    // 이 행 수마다 영속성 컨텍스트를 비움 (조회 fetch size 와 같은 값)
+    private static final int CLEAR_INTERVAL = 500;
+    private static final LocalDate DEFAULT_FROM = LocalDate.of(2000, 1, 1);
+
+    private static final String[] CSV_HEADER = {
+            "reservationId", "customerId", "customerName", "peopleCount",
+            "reservationTime", "status", "visited", "createdAt"};
+
+    private final RestaurantRepository restaurantRepository;
+    private final ReservationRepository reservationRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 전에 매장 소유 여부를 확인합니다.
+     * 응답 스트림을 쓰기 시작한 뒤에는 오류 응답을 보낼 수 없으므로 먼저 호출합니다.
+     */
+    @Transactional(readOnly = true)
+    public void checkExportable(UserPrincipal principal, Long restaurantId, LocalDate from, LocalDate to) {
+        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new GlobalException(RESTAURANT_NOT_EXIST));
+
+        if (!restaurant.getManagerEntity().getId().equals(principal.getId())) {
+            throw new GlobalException(SHOP_MANAGER_NOT_EXIST);
+        }
+
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new GlobalException(INVALID_DATE_RANGE);
+        }
+    }
+
+    /**
+     * from ~ to(포함) 기간의 예약을 예약 시각 순으로 out 에 씁니다. 기간을 지정하지 않으면 전체 내역을 씁니다.
+     * @return 내보낸 예약 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Long restaurantId, LocalDate from, LocalDate to, ReservationStatus status,
+                       ExportFormat format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        LocalDateTime fromTime = (from == null ? DEFAULT_FROM : from).atStartOfDay();
+        LocalDateTime toTime = (to == null ? LocalDate.now().plusYears(10) : to.plusDays(1)).atStartOfDay();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows = 0;
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, CSV_HEADER);
+        }
+
+        try (Stream<ReservationEntity> reservations =
+                     reservationRepository.streamByRestaurant(restaurantId, fromTime, toTime, status)) {
+            Iterator<ReservationEntity> iterator = reservations.iterator();
+
+            while (iterator.hasNext()) {
+                ReservationEntity reservation = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, csvValues(reservation));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(jsonValues(reservation)));
+                    writer.write('\n');
+                }
+
+                if (++rows % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("reservations exported -> restaurant {}, {} rows as {} in {} ms",
+                restaurantId, rows, format, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private String[] csvValues(ReservationEntity reservation) {
+        return new String[]{
+                String.valueOf(reservation.getId()),
+                String.valueOf(reservation.getCustomerEntity().getId()),
+                reservation.getCustomerEntity().getName(),
+                String.valueOf(reservation.getPeopleCount()),
+                String.valueOf(reservation.getReservationTime()),
+                String.valueOf(reservation.getStatus()),
+                String.valueOf(reservation.isVisited()),
+                String.valueOf(reservation.getCreatedAt())};
+    }
+
+    private Map<String, Object> jsonValues(ReservationEntity reservation) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("reservationId", reservation.getId());
+        values.put("customerId", reservation.getCustomerEntity().getId());
+        values.put("customerName", reservation.getCustomerEntity().getName());
+        values.put("peopleCount", reservation.getPeopleCount());
+        values.put("reservationTime", reservation.getReservationTime());
+        values.put("status", reservation.getStatus());
+        values.put("visited", reservation.isVisited());
+        values.put("createdAt", reservation.getCreatedAt());
+        return values;
+    }
+
+    private void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감쌉니다.
+     * 스프레드시트에서 수식으로 해석되는 값(=, +, -, @ 로 시작)은 앞에 ' 를 붙입니다.
+     */
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
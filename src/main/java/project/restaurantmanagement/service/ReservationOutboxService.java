@@ -0,0 +1,37 @@
+package project.restaurantmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.restaurantmanagement.repository.ReservationOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 예약 상태 변경을 reservation_outbox 에 기록하는 서비스입니다.
+ * 상태를 바꾼 트랜잭션 안에서 호출되어, 상태 변경과 outbox 기록이 함께 커밋되거나 함께 롤백됩니다.
+ */
+
+@Service
+@RequiredArgsConstructor
+public class ReservationOutboxService {
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+
+    /**
+     * 예약들의 현재 상태를 기록합니다.
+     * 상태 변경을 먼저 flush 하여 예약 행 잠금을 잡은 뒤 outbox id 를 받으므로,
+     * 같은 예약의 기록은 커밋 순서대로 id 가 증가합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+
+        reservationOutboxRepository.flush();
+        reservationOutboxRepository.insertCurrentStatus(reservationIds, LocalDateTime.now());
+    }
+}
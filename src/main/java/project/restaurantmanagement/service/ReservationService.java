@@ -2,20 +2,36 @@ package project.restaurantmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.restaurantmanagement.dto.BatchDecisionDto;
+import project.restaurantmanagement.dto.BatchDecisionResultDto;
 import project.restaurantmanagement.dto.ReservationDto;
+import project.restaurantmanagement.dto.ReservationPageDto;
 import project.restaurantmanagement.entity.ManagerEntity;
 import project.restaurantmanagement.entity.ReservationEntity;
 import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.event.ReservationStatusChangedEvent;
+import project.restaurantmanagement.exception.ErrorCode;
 import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.model.PageCursor;
+import project.restaurantmanagement.outbox.ReservationEventStream;
 import project.restaurantmanagement.model.type.AcceptStatus;
+import project.restaurantmanagement.model.type.ReservationStatus;
 import project.restaurantmanagement.repository.ManagerRepository;
 import project.restaurantmanagement.repository.ReservationRepository;
 import project.restaurantmanagement.repository.RestaurantRepository;
-import project.restaurantmanagement.security.TokenProvider;
+import project.restaurantmanagement.security.UserPrincipal;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static project.restaurantmanagement.exception.ErrorCode.*;
 import static project.restaurantmanagement.model.type.ReservationStatus.*;
@@ -26,75 +42,244 @@ import static project.restaurantmanagement.model.type.ReservationStatus.ACCEPTED
 @Slf4j
 public class ReservationService {
 
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_VIEW_DAYS = 30;
+    private static final int MAX_VIEW_DAYS = 366;
+
     private final ManagerRepository managerRepository;
     private final ReservationRepository reservationRepository;
-    private final TokenProvider tokenProvider;
     private final RestaurantRepository restaurantRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationOutboxService reservationOutboxService;
+    private final ReservationEventStream reservationEventStream;
 
 
     /**
-     * 매니저 별 예약 정보 조회
+     * 매장 별 예약 정보 조회
+     * from ~ to(포함) 기간, 상태(선택)로 거르고 (예약 시각, 예약 ID) 기준 키셋 페이지네이션으로 최대 size 개 반환
+     * 기간을 지정하지 않으면 오늘부터 30일간을 조회합니다.
      */
-    @Transactional
-    public List<ReservationDto> viewReservations(String header, Long restaurantId) {
+    @Transactional(readOnly = true)
+    public ReservationPageDto viewReservations(UserPrincipal principal, Long restaurantId, LocalDate from, LocalDate to,
+                                               ReservationStatus status, String cursor, Integer size) {
+
+        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new GlobalException(RESTAURANT_NOT_EXIST));
 
-        String token = tokenProvider.getToken(header);
-        Long managerId = tokenProvider.getId(token);
+        if (!restaurant.getManagerEntity().getId().equals(principal.getId())) {
+            throw new GlobalException(SHOP_MANAGER_NOT_EXIST);
+        }
 
-        ManagerEntity manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new GlobalException(MANAGER_NOT_EXIST));
+        LocalDate start = from == null ? LocalDate.now() : from;
+        LocalDate end = to == null ? start.plusDays(DEFAULT_VIEW_DAYS - 1) : to;
+        if (end.isBefore(start) || end.isAfter(start.plusDays(MAX_VIEW_DAYS - 1))) {
+            throw new GlobalException(INVALID_DATE_RANGE);
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        // 첫 페이지는 기간 시작 직전을 커서로 사용
+        LocalDateTime afterTime = pageCursor == null ? start.atStartOfDay().minusNanos(1) : pageCursor.getDateTime(0);
+        long afterId = pageCursor == null ? 0L : pageCursor.getLong(1);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회
+        List<ReservationEntity> reservations = reservationRepository.findPageByRestaurant(restaurantId,
+                end.plusDays(1).atStartOfDay(), status, afterTime, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = reservations.size() > pageSize;
+        List<ReservationEntity> page = hasNext ? reservations.subList(0, pageSize) : reservations;
+        ReservationEntity last = page.isEmpty() ? null : page.get(page.size() - 1);
 
+        return ReservationPageDto.builder()
+                .reservations(ReservationDto.from(page))
+                .nextCursor(hasNext ? PageCursor.encode(last.getReservationTime(), last.getId()) : null)
+                .build();
+    }
+
+    /**
+     * 매장 예약 이벤트 구독
+     * 새 예약과 예약 상태 변경을 발생 순서대로 보내며, lastEventId 가 있으면 그 이후의 이벤트부터 보냅니다.
+     */
+    public SseEmitter streamReservations(UserPrincipal principal, Long restaurantId, Long lastEventId) {
         RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new GlobalException(RESTAURANT_NOT_EXIST));
 
-        if (!manager.getRestaurants().contains(restaurant)) {
+        if (!restaurant.getManagerEntity().getId().equals(principal.getId())) {
             throw new GlobalException(SHOP_MANAGER_NOT_EXIST);
         }
 
-        return ReservationDto.from(reservationRepository.findReservationEntitiesByManagerEntity(manager));
+        return reservationEventStream.subscribe(restaurantId, lastEventId);
     }
 
     /**
      * 예약 정보를 이용하여 예약 승인/거절 결정
+     * 일괄 처리와 같은 검증으로 본인 매장의 예약인지 확인합니다.
+     * 대기 중인 예약만 잠근 뒤 조건부 UPDATE 로 변경하므로, 동시에 들어온 다른 승인/거절 요청과 중복 처리되지 않습니다.
      */
     @Transactional
-    public String acceptOrRefuseReservation(String header, Long reservationId, AcceptStatus acceptStatus) {
+    public String acceptOrRefuseReservation(UserPrincipal principal, Long reservationId, AcceptStatus acceptStatus) {
 
-        String token = tokenProvider.getToken(header);
-        Long managerId = tokenProvider.getId(token);
-
-        ManagerEntity manager = managerRepository.findById(managerId)
+        ManagerEntity manager = managerRepository.findById(principal.getId())
                 .orElseThrow(() -> new GlobalException(MANAGER_NOT_EXIST));
 
         ReservationEntity reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new GlobalException(RESERVATION_NOT_EXIST));
 
-        checkReservation(reservation);
+        checkDecision(reservation, principal);
+
+        ReservationStatus status = acceptStatus.getStatus() ? ACCEPTED : CANCELLED;
+        // 조회 이후 다른 요청이 먼저 처리한 경우
+        if (decidePending(List.of(reservationId), status).isEmpty()) {
+            throw new GlobalException(RESERVATION_ALREADY_PROCESSED);
+        }
+
+        // 거절된 예약의 좌석은 시간대에 반환
+        if (!acceptStatus.getStatus()) {
+            seatInventoryService.release(reservation);
+        }
 
-        reservation.setStatus(acceptStatus.getStatus() ? ACCEPTED : CANCELLED);
+        reservationOutboxService.append(List.of(reservation.getId()));
 
-        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(reservation.getId(),
+                reservation.getRestaurantEntity().getId(), status, reservation.getReservationTime()));
 
         return "예약 번호 " + reservationId + "에 대한 " + (acceptStatus.getStatus() ? "승인" : "거절") + " 처리가 완료되었습니다.";
     }
 
     /**
-     * 예약 검증
+     * 예약 일괄 승인/거절
+     * 한 번의 조회로 전체 예약의 매장 소유 여부와 상태를 확인한 뒤, 아직 대기 중인 예약만 잠그고 한 번의 UPDATE 로 변경합니다.
+     * 그 사이 다른 요청이 먼저 처리한 예약은 실패로 돌려주며, 좌석 반환과 outbox 기록은 실제로 변경된 예약에만 합니다.
+     * 결과는 요청한 ID 순서대로(중복 ID 는 한 번만) 예약별로 반환합니다.
+     */
+    @Transactional
+    public List<BatchDecisionResultDto> acceptOrRefuseReservations(UserPrincipal principal, BatchDecisionDto request) {
+        List<Long> reservationIds = request.getReservationIds();
+        if (reservationIds == null || reservationIds.isEmpty() || reservationIds.size() > MAX_BATCH_SIZE
+                || request.getDecision() == null) {
+            throw new GlobalException(INVALID_BATCH_REQUEST);
+        }
+
+        ReservationStatus status = request.getDecision().getStatus() ? ACCEPTED : CANCELLED;
+        Map<Long, ReservationEntity> reservations = reservationRepository.findByIdIn(reservationIds).stream()
+                .collect(Collectors.toMap(ReservationEntity::getId, Function.identity()));
+
+        Map<Long, ErrorCode> errors = new HashMap<>();
+        List<Long> candidates = new ArrayList<>();
+        for (Long reservationId : new LinkedHashSet<>(reservationIds)) {
+            ReservationEntity reservation = reservations.get(reservationId);
+            ErrorCode error = reservation == null ? RESERVATION_NOT_EXIST : validateDecision(reservation, principal);
+
+            if (error != null) {
+                errors.put(reservationId, error);
+            } else {
+                candidates.add(reservationId);
+            }
+        }
+
+        Set<Long> decided = candidates.isEmpty() ? Set.of() : new HashSet<>(decidePending(candidates, status));
+
+        List<BatchDecisionResultDto> results = new ArrayList<>();
+        List<ReservationEntity> changed = new ArrayList<>();
+        for (Long reservationId : new LinkedHashSet<>(reservationIds)) {
+            if (decided.contains(reservationId)) {
+                changed.add(reservations.get(reservationId));
+                results.add(BatchDecisionResultDto.success(reservationId, status));
+            } else {
+                // 조회 이후 다른 요청이 먼저 처리한 예약은 이미 처리된 것으로 응답
+                results.add(BatchDecisionResultDto.failure(reservationId,
+                        errors.getOrDefault(reservationId, RESERVATION_ALREADY_PROCESSED)));
+            }
+        }
+
+        // 거절된 예약의 좌석은 시간대별로 모아 반환
+        if (status == CANCELLED) {
+            seatInventoryService.releaseAll(changed);
+        }
+
+        reservationOutboxService.append(changed.stream().map(ReservationEntity::getId).toList());
+
+        for (ReservationEntity reservation : changed) {
+            eventPublisher.publishEvent(new ReservationStatusChangedEvent(reservation.getId(),
+                    reservation.getRestaurantEntity().getId(), status, reservation.getReservationTime()));
+        }
+
+        log.info("batch {} -> {} of {} reservations", request.getDecision(), changed.size(), results.size());
+        return results;
+    }
+
+    /**
+     * 노쇼 취소
+     * 주어진 예약 중 아직 승인 상태인 예약을 잠근 뒤 한 번의 UPDATE 로 취소하고, 취소한 예약만 outbox 에 기록합니다.
+     * @return 취소된 예약 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int cancelNoShows(List<Long> reservationIds, LocalDateTime now) {
+        List<Long> locked = reservationRepository.lockIdsByStatus(reservationIds, ACCEPTED.name());
+        if (locked.isEmpty()) {
+            return 0;
+        }
+
+        int cancelled = reservationRepository.updateStatus(locked, ACCEPTED, CANCELLED, now);
+        reservationOutboxService.append(locked);
+        return cancelled;
+    }
+
+    /**
+     * 대기 중인 예약을 id 순서로 잠근 뒤 조건부 UPDATE 로 to 상태로 변경합니다.
+     * 잠금 시점에 이미 대기 상태가 아닌 예약은 제외됩니다.
+     * @return 실제로 변경된 예약 id
+     */
+    private List<Long> decidePending(List<Long> reservationIds, ReservationStatus to) {
+        List<Long> locked = reservationRepository.lockIdsByStatus(reservationIds, PENDING.name());
+        if (!locked.isEmpty()) {
+            reservationRepository.updateStatus(locked, PENDING, to, LocalDateTime.now());
+        }
+        return locked;
+    }
+
+    /**
+     * 예약 검증: 본인 매장의 예약이고 승인/거절 가능한 상태인지 확인
+     */
+    private void checkDecision(ReservationEntity reservation, UserPrincipal principal) {
+        ErrorCode error = validateDecision(reservation, principal);
+
+        if (error != null) {
+            throw new GlobalException(error);
+        }
+    }
+
+    /**
+     * 본인 매장의 예약이고 승인/거절 가능한 상태인지 확인
+     * @return 처리할 수 없으면 사유, 처리 가능하면 null
      */
-    private void checkReservation(ReservationEntity reservation) {
+    private ErrorCode validateDecision(ReservationEntity reservation, UserPrincipal principal) {
+        if (!reservation.getRestaurantEntity().getManagerEntity().getId().equals(principal.getId())) {
+            return RESERVATION_NOT_YOUR_RESTAURANT;
+        }
+
+        return validateStatus(reservation);
+    }
+
+    private ErrorCode validateStatus(ReservationEntity reservation) {
         // 이미 취소된 예약인 경우
         if (reservation.getStatus() == CANCELLED) {
-            throw new GlobalException(RESERVATION_ALREADY_CANCELED);
+            return RESERVATION_ALREADY_CANCELED;
         }
 
         // 이미 완료 처리된 예약인 경우
         if (reservation.getStatus() == COMPLETED) {
-            throw new GlobalException(RESERVATION_ALREADY_VISITED);
+            return RESERVATION_ALREADY_VISITED;
         }
 
         // 이미 확인(승인)한 예약인 경우
         if (reservation.getStatus() == ACCEPTED) {
-            throw new GlobalException(RESERVATION_ALREADY_PROCESSED);
+            return RESERVATION_ALREADY_PROCESSED;
         }
+
+        return null;
     }
 }
\ No newline at end of file
@@ -2,14 +2,34 @@ package project.restaurantmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import project.restaurantmanagement.config.CacheConfig;
+import project.restaurantmanagement.dto.NearbyRestaurantDto;
 import project.restaurantmanagement.dto.RestaurantDto;
+import project.restaurantmanagement.dto.RestaurantPageDto;
+import project.restaurantmanagement.dto.RestaurantSearchDto;
+import project.restaurantmanagement.dto.TopRestaurantDto;
 import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.entity.RestaurantRatingEntity;
 import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.index.RestaurantGeoIndex;
+import project.restaurantmanagement.index.RestaurantLeaderboard;
+import project.restaurantmanagement.index.RestaurantSearchIndex;
+import project.restaurantmanagement.model.PageCursor;
+import project.restaurantmanagement.repository.RestaurantRatingRepository;
 import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.repository.projection.RestaurantVersionView;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static project.restaurantmanagement.exception.ErrorCode.*;
 
@@ -19,26 +39,139 @@ import static project.restaurantmanagement.exception.ErrorCode.*;
 @Transactional(readOnly = true)
 public class RestaurantService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_NEARBY_RADIUS = 3_000;
+    private static final int MAX_NEARBY_RADIUS = 50_000;
+    private static final int DEFAULT_NEARBY_LIMIT = 10;
+    private static final int MAX_NEARBY_LIMIT = 50;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int DEFAULT_TOP_LIMIT = 10;
+    private static final int MAX_TOP_LIMIT = 100;
+
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantRatingRepository restaurantRatingRepository;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final RestaurantLeaderboard restaurantLeaderboard;
 
     /**
      * 매장 목록 조회
-     * 모든 매장 정보를 조회하여 반환
+     * restaurant_id 기준 키셋 페이지네이션으로 커서 이후의 매장을 최대 size 개 반환
+     */
+    public RestaurantPageDto viewRestaurants(String cursor, Integer size) {
+        log.info("view restaurants -> cursor {}, size {}", cursor, size);
+        int pageSize = pageSize(size);
+        long afterId = afterId(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회
+        List<RestaurantEntity> restaurantEntities =
+                restaurantRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = restaurantEntities.size() > pageSize;
+        List<RestaurantEntity> page = hasNext ? restaurantEntities.subList(0, pageSize) : restaurantEntities;
+
+        return RestaurantPageDto.builder()
+                .restaurants(RestaurantDto.from(page, ratingsOf(page.stream().map(RestaurantEntity::getId).toList())))
+                .nextCursor(hasNext ? PageCursor.encode(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * 매장 목록 페이지의 ETag 계산
+     * 페이지에 포함될 매장의 ID와 수정 시각만 조회하여 계산하므로 엔티티 전체를 읽지 않음
+     * 평점 집계의 갱신 시각도 포함하여, 리뷰가 바뀌면 ETag 가 바뀜
+     */
+    public String restaurantsEtag(String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<RestaurantVersionView> versions =
+                restaurantRepository.findVersionsByIdGreaterThanOrderByIdAsc(afterId(cursor), PageRequest.of(0, pageSize + 1));
+
+        Map<Long, RestaurantRatingEntity> ratings = ratingsOf(versions.stream().map(RestaurantVersionView::getId).toList());
+
+        long hash = pageSize;
+        for (RestaurantVersionView version : versions) {
+            RestaurantRatingEntity rating = ratings.get(version.getId());
+            hash = 31 * hash + version.getId();
+            hash = 31 * hash + toEpochMilli(version.getModifiedAt());
+            hash = 31 * hash + (rating == null ? 0L : toEpochMilli(rating.getUpdatedAt()));
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * 주변 매장 조회
+     * 메모리 공간 인덱스에서 반경(미터) 안의 가까운 매장을 거리순으로 반환 (DB 조회 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<NearbyRestaurantDto> viewNearbyRestaurants(double latitude, double longitude, Integer radius, Integer limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new GlobalException(INVALID_LOCATION);
+        }
+
+        int radiusMeters = radius == null ? DEFAULT_NEARBY_RADIUS : Math.max(1, Math.min(radius, MAX_NEARBY_RADIUS));
+        int maxResults = limit == null ? DEFAULT_NEARBY_LIMIT : Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+
+        return NearbyRestaurantDto.from(restaurantGeoIndex.nearest(latitude, longitude, radiusMeters, maxResults));
+    }
+
+    /**
+     * 매장 검색
+     * 메모리 역색인에서 이름/설명/위치가 검색어(접두어 포함)와 일치하는 매장을 관련도 순으로 반환 (DB 조회 없음)
      */
-    public List<RestaurantDto> viewRestaurants() {
-        log.info("view restaurants");
-        List<RestaurantEntity> restaurantEntities = restaurantRepository.findAll();
-        return RestaurantDto.from(restaurantEntities);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<RestaurantSearchDto> searchRestaurants(String query, Integer limit) {
+        int maxResults = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return RestaurantSearchDto.from(restaurantSearchIndex.search(query, maxResults));
+    }
+
+    /**
+     * 평점 상위 매장 조회
+     * 메모리 순위표에서 베이지안 평균 점수가 높은 순서로 최대 limit 개를 반환 (DB 조회 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TopRestaurantDto> viewTopRestaurants(Integer limit) {
+        int maxResults = limit == null ? DEFAULT_TOP_LIMIT : Math.max(1, Math.min(limit, MAX_TOP_LIMIT));
+        return TopRestaurantDto.from(restaurantLeaderboard.top(maxResults));
+    }
+
+    private int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private long afterId(String cursor) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        return pageCursor == null ? 0L : pageCursor.getLong(0);
+    }
+
+    private Map<Long, RestaurantRatingEntity> ratingsOf(List<Long> restaurantIds) {
+        return restaurantRatingRepository.findAllById(restaurantIds).stream()
+                .collect(Collectors.toMap(RestaurantRatingEntity::getRestaurantId, Function.identity()));
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
     /**
      * 해당 매장 조회
-     * 해당 매장 정보를 조회하여 반환
+     * 해당 매장 정보를 조회하여 반환 (캐시에 있으면 DB 를 조회하지 않음)
+     * 노드마다 캐시가 따로 있어 다른 노드에서 바뀌는 평점 집계는 담지 않습니다. 필요하면 withRating 으로 더합니다.
      */
+    @Cacheable(cacheNames = CacheConfig.RESTAURANT_CACHE, key = "#restaurantId", sync = true)
     public RestaurantDto viewRestaurant(Long restaurantId) {
         log.info("view restaurant -> {}", restaurantId);
         RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new GlobalException(RESTAURANT_NOT_EXIST));
         return RestaurantDto.from(restaurant);
     }
+
+    /**
+     * 매장 정보에 현재 평점 집계를 더합니다.
+     * 집계 행을 PK 로 매번 읽으므로 어느 노드에서 리뷰가 바뀌었든 응답과 ETag 에 바로 반영됩니다.
+     */
+    public RestaurantDto withRating(RestaurantDto restaurant) {
+        return restaurant.withRating(restaurantRatingRepository.findById(restaurant.getRestaurantId()).orElse(null));
+    }
 }
@@ -2,13 +2,18 @@ package project.restaurantmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import project.restaurantmanagement.dto.ReviewDto;
+import project.restaurantmanagement.dto.ReviewPageDto;
 import project.restaurantmanagement.entity.*;
 import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.model.PageCursor;
+import project.restaurantmanagement.model.type.Rating;
+import project.restaurantmanagement.model.type.ReviewSort;
 import project.restaurantmanagement.repository.*;
-import project.restaurantmanagement.security.TokenProvider;
+import project.restaurantmanagement.security.UserPrincipal;
 
 import java.util.List;
 import java.util.Objects;
@@ -22,12 +27,15 @@ import static project.restaurantmanagement.model.type.ReservationStatus.*;
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final ManagerRepository managerRepository;
     private final ReservationRepository reservationRepository;
     private final RestaurantRepository restaurantRepository;
     private final CustomerRepository customerRepository;
-    private final TokenProvider tokenProvider;
+    private final RatingAggregateService ratingAggregateService;
 
 
     /**
@@ -35,11 +43,8 @@ public class ReviewService {
      * 예약이 완료된 후에만 리뷰 작성 가능
      */
     @Transactional
-    public String addReview(ReviewDto request, Long reservationId, String header) {
-        String token = tokenProvider.getToken(header);
-        Long customerId = tokenProvider.getId(token);
-
-        CustomerEntity customer = customerRepository.findById(customerId)
+    public String addReview(ReviewDto request, Long reservationId, UserPrincipal principal) {
+        CustomerEntity customer = customerRepository.findById(principal.getId())
                 .orElseThrow(() -> new GlobalException(CUSTOMER_NOT_EXIST));
 
         ReservationEntity reservation = reservationRepository.findById(reservationId)
@@ -56,27 +61,64 @@ public class ReviewService {
 
         log.info("add review -> {}", request.getComments());
         reviewRepository.save(ReviewEntity.of(request, customer, reservation));
+        ratingAggregateService.reviewAdded(reservation.getRestaurantEntity().getId(), request.getRating());
         return "해당 식당 " + "[" + reservation.getRestaurantEntity().getName() + "]" + "의 리뷰 남겼습니다";
     }
 
     /**
      * 리뷰 조회
+     * 최신순 또는 평점순 키셋 페이지네이션으로 커서 이후의 리뷰를 최대 size 개 반환
+     * star 를 지정하면 해당 평점의 리뷰만 조회
      */
-    public List<ReviewDto> viewReviews(String header, Long restaurantId) {
-        String token = tokenProvider.getToken(header);
-        Long managerId = tokenProvider.getId(token);
-
-        ManagerEntity manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new GlobalException(MANAGER_NOT_EXIST));
+    public ReviewPageDto viewReviews(UserPrincipal principal, Long restaurantId, ReviewSort sort, Integer star,
+                                     String cursor, Integer size) {
 
         RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new GlobalException(RESTAURANT_NOT_EXIST));
 
-        if (!manager.getRestaurants().contains(restaurant)) {
+        if (!restaurant.getManagerEntity().getId().equals(principal.getId())) {
             throw new GlobalException(SHOP_MANAGER_NOT_EXIST);
         }
 
-        return ReviewDto.from(reviewRepository.findReviewEntitiesByRestaurantEntity(restaurant));
+        if (star != null && (star < 1 || star > 5)) {
+            throw new GlobalException(INVALID_RATING_FILTER);
+        }
+
+        ReviewSort reviewSort = sort == null ? ReviewSort.RECENT : sort;
+        Double rating = star == null ? null : star.doubleValue();
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewEntity> reviews;
+        if (reviewSort == ReviewSort.RATING) {
+            reviews = pageCursor == null
+                    ? reviewRepository.findRatingPageByRestaurant(restaurantId, rating, null, null, null, pageRequest)
+                    : reviewRepository.findRatingPageByRestaurant(restaurantId, rating, pageCursor.getDouble(0),
+                    pageCursor.getDateTime(1), pageCursor.getLong(2), pageRequest);
+        } else {
+            reviews = pageCursor == null
+                    ? reviewRepository.findRecentPageByRestaurant(restaurantId, rating, null, null, pageRequest)
+                    : reviewRepository.findRecentPageByRestaurant(restaurantId, rating,
+                    pageCursor.getDateTime(0), pageCursor.getLong(1), pageRequest);
+        }
+
+        boolean hasNext = reviews.size() > pageSize;
+        List<ReviewEntity> page = hasNext ? reviews.subList(0, pageSize) : reviews;
+        ReviewEntity last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = reviewSort == ReviewSort.RATING
+                    ? PageCursor.encode(last.getRating(), last.getCreatedAt(), last.getId())
+                    : PageCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return ReviewPageDto.builder()
+                .reviews(ReviewDto.from(page))
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
@@ -84,14 +126,11 @@ public class ReviewService {
      * 예약이 완료된 후에만 리뷰 수정 가능
      */
     @Transactional
-    public String updateReview(ReviewDto request, Long reviewId, String header) {
-        String token = tokenProvider.getToken(header);
-        Long customerId = tokenProvider.getId(token);
-
-        CustomerEntity customer = customerRepository.findById(customerId)
+    public String updateReview(ReviewDto request, Long reviewId, UserPrincipal principal) {
+        CustomerEntity customer = customerRepository.findById(principal.getId())
                 .orElseThrow(() -> new GlobalException(CUSTOMER_NOT_EXIST));
 
-        ReviewEntity review = reviewRepository.findById(reviewId)
+        ReviewEntity review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new GlobalException(REVIEW_NOT_EXIST));
 
         // 리뷰 수정은 예약이 완료된 후에만 가능
@@ -99,11 +138,14 @@ public class ReviewService {
             throw new GlobalException(REVIEW_NOT_YOURS);
         }
 
+        Rating before = Rating.fromValue(review.getRating());
+
         review.setTitle(request.getTitle());
         review.setComment(request.getComments());
         review.setRating(request.getRating().getRateValue());
 
         reviewRepository.save(review);
+        ratingAggregateService.reviewUpdated(review.getRestaurantEntity().getId(), before, request.getRating());
         log.info("Review updated -> {}", request.getComments());
         return "리뷰가 성공적으로 업데이트되었습니다. [" + review.getRestaurantEntity().getName() + "]";
     }
@@ -112,15 +154,12 @@ public class ReviewService {
      * 리뷰 삭제
      */
     @Transactional
-    public String deleteReviewManager(String header, Long reviewId) {
-
-        String token = tokenProvider.getToken(header);
-        Long managerId = tokenProvider.getId(token);
+    public String deleteReviewManager(UserPrincipal principal, Long reviewId) {
 
-        ManagerEntity manager = managerRepository.findById(managerId)
+        ManagerEntity manager = managerRepository.findById(principal.getId())
                 .orElseThrow(() -> new GlobalException(MANAGER_NOT_EXIST));
 
-        ReviewEntity review = reviewRepository.findById(reviewId)
+        ReviewEntity review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new GlobalException(REVIEW_NOT_EXIST));
 
         if (!Objects.equals(review.getManagerEntity().getId(), manager.getId())) {
@@ -128,6 +167,7 @@ public class ReviewService {
         }
 
         reviewRepository.deleteById(reviewId);
+        ratingAggregateService.reviewDeleted(review.getRestaurantEntity().getId(), Rating.fromValue(review.getRating()));
         return "리뷰가 성공적으로 삭제되었습니다. [" + review.getRestaurantEntity().getName() + "]";
     }
 
@@ -135,15 +175,12 @@ public class ReviewService {
      * 리뷰 삭제
      */
     @Transactional
-    public String deleteReviewCustomer(String header, Long reviewId) {
-
-        String token = tokenProvider.getToken(header);
-        Long customerId = tokenProvider.getId(token);
+    public String deleteReviewCustomer(UserPrincipal principal, Long reviewId) {
 
-        CustomerEntity customer = customerRepository.findById(customerId)
+        CustomerEntity customer = customerRepository.findById(principal.getId())
                 .orElseThrow(() -> new GlobalException(CUSTOMER_NOT_EXIST));
 
-        ReviewEntity review = reviewRepository.findById(reviewId)
+        ReviewEntity review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new GlobalException(REVIEW_NOT_EXIST));
 
         if (!Objects.equals(review.getCustomerEntity().getId(), customer.getId())) {
@@ -151,6 +188,7 @@ public class ReviewService {
         }
 
         reviewRepository.deleteById(reviewId);
+        ratingAggregateService.reviewDeleted(review.getRestaurantEntity().getId(), Rating.fromValue(review.getRating()));
         return "리뷰가 성공적으로 삭제되었습니다. [" + review.getRestaurantEntity().getName() + "]";
     }
 }
@@ -0,0 +1,135 @@
+package project.restaurantmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.restaurantmanagement.entity.ReservationEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.entity.RestaurantSlotEntity;
+import project.restaurantmanagement.event.SeatsChangedEvent;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.repository.RestaurantSlotRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static project.restaurantmanagement.exception.ErrorCode.RESERVATION_SLOT_FULL;
+
+/**
+ * 매장의 시간대별 좌석 재고를 관리하는 서비스입니다.
+ * 좌석 예약은 시간대 행에 대한 조건부 UPDATE 하나로 처리되어, 매장이나 테이블 전체를 잠그지 않고
+ * 동시에 들어온 예약 요청 사이에서도 좌석 수를 초과하지 않습니다.
+ * 좌석 수(seatCapacity)가 설정되지 않은 매장은 인원 제한 없이 예약됩니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatInventoryService {
+
+    public static final int DEFAULT_SLOT_MINUTES = 60;
+
+    private final RestaurantSlotRepository restaurantSlotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 예약 시각이 속한 시간대의 시작 시각을 계산합니다.
+     */
+    public static LocalDateTime slotTimeOf(LocalDateTime reservationTime, Integer slotMinutes) {
+        int minutes = slotMinutes == null ? DEFAULT_SLOT_MINUTES : slotMinutes;
+        int minuteOfDay = reservationTime.getHour() * 60 + reservationTime.getMinute();
+
+        return reservationTime.toLocalDate().atStartOfDay().plusMinutes((long) minuteOfDay / minutes * minutes);
+    }
+
+    /**
+     * 시간대 행이 없으면 생성합니다.
+     * 동시에 같은 시간대를 생성하는 충돌이 예약 트랜잭션을 롤백시키지 않도록, 예약 트랜잭션 밖에서 호출합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prepareSlot(Long restaurantId, Integer seatCapacity, Integer slotMinutes, LocalDateTime reservationTime) {
+        if (seatCapacity == null) {
+            return;
+        }
+
+        LocalDateTime slotTime = slotTimeOf(reservationTime, slotMinutes);
+        if (restaurantSlotRepository.existsByRestaurantIdAndSlotTime(restaurantId, slotTime)) {
+            return;
+        }
+
+        try {
+            restaurantSlotRepository.saveAndFlush(RestaurantSlotEntity.builder()
+                    .restaurantId(restaurantId)
+                    .slotTime(slotTime)
+                    .capacity(seatCapacity)
+                    .reservedSeats(0)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 생성한 경우
+            log.debug("slot already created -> restaurant {}, {}", restaurantId, slotTime);
+        }
+    }
+
+    /**
+     * 예약 시각이 속한 시간대의 좌석을 예약합니다. 남은 좌석이 없으면 즉시 실패합니다.
+     * 행 잠금 시간을 줄이기 위해 예약 트랜잭션의 마지막 쓰기로 호출합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(RestaurantEntity restaurant, LocalDateTime reservationTime, int seats) {
+        if (restaurant.getSeatCapacity() == null) {
+            return;
+        }
+
+        LocalDateTime slotTime = slotTimeOf(reservationTime, restaurant.getSlotMinutes());
+        if (seats > restaurant.getSeatCapacity()
+                || restaurantSlotRepository.reserveSeats(restaurant.getId(), slotTime, seats) == 0) {
+            throw new GlobalException(RESERVATION_SLOT_FULL);
+        }
+
+        eventPublisher.publishEvent(new SeatsChangedEvent(restaurant.getId(), slotTime, seats));
+    }
+
+    /**
+     * 여러 예약의 좌석을 시간대별로 모아 한 번씩 반환합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseAll(List<ReservationEntity> reservations) {
+        Map<RestaurantEntity, Map<LocalDateTime, Integer>> seats = new HashMap<>();
+        for (ReservationEntity reservation : reservations) {
+            RestaurantEntity restaurant = reservation.getRestaurantEntity();
+            if (restaurant.getSeatCapacity() != null) {
+                seats.computeIfAbsent(restaurant, key -> new HashMap<>())
+                        .merge(slotTimeOf(reservation.getReservationTime(), restaurant.getSlotMinutes()),
+                                reservation.getPeopleCount(), Integer::sum);
+            }
+        }
+
+        seats.forEach((restaurant, slots) -> slots.forEach((slotTime, count) -> {
+            if (restaurantSlotRepository.releaseSeats(restaurant.getId(), slotTime, count) > 0) {
+                eventPublisher.publishEvent(new SeatsChangedEvent(restaurant.getId(), slotTime, -count));
+            }
+        }));
+    }
+
+    /**
+     * 거절/취소된 예약의 좌석을 시간대에 반환합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(ReservationEntity reservation) {
+        RestaurantEntity restaurant = reservation.getRestaurantEntity();
+        if (restaurant.getSeatCapacity() == null) {
+            return;
+        }
+
+        LocalDateTime slotTime = slotTimeOf(reservation.getReservationTime(), restaurant.getSlotMinutes());
+        if (restaurantSlotRepository.releaseSeats(restaurant.getId(), slotTime, reservation.getPeopleCount()) > 0) {
+            eventPublisher.publishEvent(new SeatsChangedEvent(restaurant.getId(), slotTime, -reservation.getPeopleCount()));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package project.restaurantmanagement;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import project.restaurantmanagement.entity.CustomerEntity;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.repository.CustomerRepository;
+import project.restaurantmanagement.repository.ManagerRepository;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.util.UUID;
+
+import static project.restaurantmanagement.model.type.UserType.CUSTOMER;
+import static project.restaurantmanagement.model.type.UserType.MANAGER;
+
+/**
+ * 통합 테스트에서 쓰는 점장, 고객, 매장을 저장하는 테스트용 fixture 입니다.
+ * 테스트 컨텍스트를 여러 테스트 클래스가 공유하므로, 이메일에는 UUID 를 붙여 겹치지 않게 합니다.
+ * 컴포넌트 스캔으로 등록되어 테스트 클래스마다 별도의 컨텍스트를 만들지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    public static final String CUSTOMER_NAME = "customer";
+    public static final String PHONE_NUMBER = "010-0000-0000";
+
+    private final ManagerRepository managerRepository;
+    private final CustomerRepository customerRepository;
+    private final RestaurantRepository restaurantRepository;
+
+    public ManagerEntity manager(String prefix) {
+        return managerRepository.save(ManagerEntity.builder()
+                .email(prefix + "-manager-" + UUID.randomUUID() + "@test.com").name("manager").userType(MANAGER)
+                .build());
+    }
+
+    /**
+     * 방문 확인에 쓰는 이름과 전화번호를 가진 고객을 저장합니다.
+     */
+    public CustomerEntity customer(String prefix) {
+        return customerRepository.save(CustomerEntity.builder()
+                .email(prefix + "-customer-" + UUID.randomUUID() + "@test.com").name(CUSTOMER_NAME)
+                .phoneNumber(PHONE_NUMBER).userType(CUSTOMER)
+                .build());
+    }
+
+    /**
+     * 좌석 설정 없이 매장을 저장합니다. (예약 생성 API 를 거치지 않는 테스트용)
+     */
+    public RestaurantEntity restaurant(String name, ManagerEntity manager) {
+        return restaurantRepository.save(RestaurantEntity.builder()
+                .name(name).location("location").managerEntity(manager).build());
+    }
+
+    public RestaurantEntity restaurant(String name, ManagerEntity manager, int seatCapacity, int slotMinutes) {
+        return restaurantRepository.save(RestaurantEntity.builder()
+                .name(name).location("location").managerEntity(manager).seatCapacity(seatCapacity)
+                .slotMinutes(slotMinutes)
+                .build());
+    }
+
+    public static UserPrincipal principal(ManagerEntity manager) {
+        return new UserPrincipal(manager.getId(), manager.getEmail(), MANAGER, 0L);
+    }
+
+    public static UserPrincipal principal(CustomerEntity customer) {
+        return new UserPrincipal(customer.getId(), customer.getEmail(), CUSTOMER, 0L);
+    }
+}
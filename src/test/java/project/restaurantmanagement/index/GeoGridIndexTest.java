@@ -0,0 +1,107 @@
+package project.restaurantmanagement.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 격자 인덱스의 최근접 조회가 전체 항목을 직접 비교한 결과와 같은지,
+ * 경도 ±180° 경계와 극지방, 항목이 드문 지역에서도 반경 안의 항목을 빠짐없이 찾는지 확인합니다.
+ */
+class GeoGridIndexTest {
+
+    private static final double CELL_DEGREES = 0.01;
+
+    @Test
+    void matchesBruteForceInDenseArea() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<GeoGridIndex.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            entries.add(entry(i, random.nextDouble(37.43, 37.70), random.nextDouble(126.80, 127.18)));
+        }
+        GeoGridIndex index = index(entries);
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = random.nextDouble(37.43, 37.70);
+            double longitude = random.nextDouble(126.80, 127.18);
+            assertNearest(index, entries, latitude, longitude, 3_000, 10);
+            assertNearest(index, entries, latitude, longitude, 500, 50);
+        }
+    }
+
+    @Test
+    void findsEntriesAcrossAntimeridian() {
+        List<GeoGridIndex.Entry> entries = List.of(
+                entry(1, -16.5, 179.99),
+                entry(2, -16.5, -179.995),
+                entry(3, -16.5, 180.0),
+                entry(4, -16.5, -179.9));
+        GeoGridIndex index = index(entries);
+
+        assertThat(ids(index.nearest(-16.5, 179.999, 20_000, 10))).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(ids(index.nearest(-16.5, -180.0, 20_000, 10))).containsExactly(3L, 2L, 1L, 4L);
+        assertNearest(index, entries, -16.5, -179.99, 50_000, 10);
+    }
+
+    @Test
+    void findsEntriesNearPoles() {
+        SplittableRandom random = new SplittableRandom(11);
+        List<GeoGridIndex.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            double latitude = random.nextBoolean() ? random.nextDouble(89.0, 90.0) : random.nextDouble(-90.0, -89.0);
+            entries.add(entry(i, latitude, random.nextDouble(-180.0, 180.0)));
+        }
+        entries.add(entry(9_999, 90.0, 0.0));
+        GeoGridIndex index = index(entries);
+
+        for (int i = 0; i < 100; i++) {
+            double latitude = random.nextBoolean() ? random.nextDouble(89.0, 90.0) : random.nextDouble(-90.0, -89.0);
+            double longitude = random.nextDouble(-180.0, 180.0);
+            assertNearest(index, entries, latitude, longitude, 50_000, 50);
+            assertNearest(index, entries, latitude, longitude, 3_000, 10);
+        }
+        assertNearest(index, entries, 90.0, 123.0, 50_000, 50);
+    }
+
+    @Test
+    void emptyAreaReturnsNothing() {
+        GeoGridIndex index = index(List.of(entry(1, 37.5, 127.0)));
+
+        assertThat(index.nearest(89.0, 10.0, 50_000, 10)).isEmpty();
+        assertThat(index.nearest(0.0, 0.0, 50_000, 10)).isEmpty();
+        assertThat(ids(index.nearest(37.5, 127.001, 1_000, 10))).containsExactly(1L);
+    }
+
+    private void assertNearest(GeoGridIndex index, List<GeoGridIndex.Entry> entries,
+                               double latitude, double longitude, double radiusMeters, int limit) {
+        List<Double> expected = entries.stream()
+                .map(entry -> GeoGridIndex.distanceMeters(latitude, longitude, entry.latitude(), entry.longitude()))
+                .filter(distance -> distance <= radiusMeters)
+                .sorted(Comparator.naturalOrder())
+                .limit(limit)
+                .toList();
+
+        assertThat(index.nearest(latitude, longitude, radiusMeters, limit))
+                .extracting(GeoGridIndex.Match::distanceMeters)
+                .containsExactlyElementsOf(expected);
+    }
+
+    private GeoGridIndex index(List<GeoGridIndex.Entry> entries) {
+        GeoGridIndex index = new GeoGridIndex(CELL_DEGREES);
+        entries.forEach(index::put);
+        return index;
+    }
+
+    private GeoGridIndex.Entry entry(long id, double latitude, double longitude) {
+        return new GeoGridIndex.Entry(id, "restaurant " + id, "location", latitude, longitude);
+    }
+
+    private List<Long> ids(List<GeoGridIndex.Match> matches) {
+        return matches.stream().map(match -> match.entry().id()).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package project.restaurantmanagement.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순위표가 점수 내림차순(같은 점수는 ID 오름차순)을 유지하고, 같은 ID는 교체하며, 상위 k 개만 반환하는지 확인합니다.
+ */
+class LeaderboardTest {
+
+    @Test
+    void ordersByScoreThenId() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.put(entry(3L, 4.0));
+        leaderboard.put(entry(4L, 3.0));
+        leaderboard.put(entry(1L, 4.0));
+        leaderboard.put(entry(2L, 4.5));
+
+        assertThat(ids(leaderboard.top(10))).containsExactly(2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    void putReplacesEntryWithSameId() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.put(entry(1L, 4.0));
+        leaderboard.put(entry(2L, 3.0));
+
+        leaderboard.put(entry(1L, 2.0));
+
+        assertThat(leaderboard.size()).isEqualTo(2);
+        assertThat(leaderboard.get(1L).score()).isEqualTo(2.0);
+        assertThat(ids(leaderboard.top(10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void topReturnsAtMostK() {
+        Leaderboard leaderboard = new Leaderboard();
+        for (long id = 1; id <= 5; id++) {
+            leaderboard.put(entry(id, id));
+        }
+
+        assertThat(ids(leaderboard.top(2))).containsExactly(5L, 4L);
+        assertThat(leaderboard.top(0)).isEmpty();
+        assertThat(ids(leaderboard.top(10))).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void removeAndReplaceAll() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.put(entry(1L, 4.0));
+        leaderboard.put(entry(2L, 3.0));
+
+        leaderboard.remove(1L);
+        leaderboard.remove(99L);
+        assertThat(ids(leaderboard.top(10))).containsExactly(2L);
+
+        // 같은 ID가 여러 번 있으면 마지막 항목만 남음
+        leaderboard.replaceAll(List.of(entry(3L, 1.0), entry(4L, 2.0), entry(3L, 5.0)));
+
+        assertThat(leaderboard.size()).isEqualTo(2);
+        assertThat(leaderboard.get(2L)).isNull();
+        assertThat(ids(leaderboard.top(10))).containsExactly(3L, 4L);
+    }
+
+    private Leaderboard.Entry entry(long id, double score) {
+        return new Leaderboard.Entry(id, score, "restaurant " + id, "location", 1, score);
+    }
+
+    private List<Long> ids(List<Leaderboard.Entry> entries) {
+        return entries.stream().map(Leaderboard.Entry::id).toList();
+    }
+}
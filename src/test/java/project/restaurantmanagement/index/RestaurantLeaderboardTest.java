@@ -0,0 +1,157 @@
+package project.restaurantmanagement.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.TestFixtures;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantRatingEntity;
+import project.restaurantmanagement.event.RestaurantRatingChangedEvent;
+import project.restaurantmanagement.repository.RestaurantRatingRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 평점 순위표가 베이지안 평균으로 리뷰가 많은 매장을 리뷰 한 건짜리 만점 매장보다 앞에 두고,
+ * 집계 변경 시 해당 매장만 교체하되 오래된 집계로는 덮어쓰지 않고, 주기적 갱신에서 바뀐 집계를 반영하며,
+ * 이름을 모르는 매장은 조회하여 채우는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RestaurantLeaderboardTest {
+
+    @Autowired
+    private RestaurantLeaderboard restaurantLeaderboard;
+
+    @Autowired
+    private RestaurantRatingRepository restaurantRatingRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private ManagerEntity manager;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        manager = fixtures.manager("leaderboard");
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    @Test
+    void bayesianScoreRanksManyReviewsAboveFewPerfectOnes() {
+        Long single = restaurant("single perfect review");
+        Long many = restaurant("many good reviews");
+        Long poor = restaurant("many poor reviews");
+        Long none = restaurant("no reviews");
+        rating(single, 1, 5.0, now);
+        rating(many, 200, 960.0, now);
+        rating(poor, 200, 600.0, now);
+        rating(none, 0, 0.0, now);
+
+        restaurantLeaderboard.load();
+
+        List<Long> ranked = restaurantLeaderboard.top(Integer.MAX_VALUE).stream()
+                .map(Leaderboard.Entry::id)
+                .filter(Set.of(single, many, poor, none)::contains)
+                .toList();
+        // 리뷰 수가 최소 리뷰 수보다 적은 매장은 순위에 없음
+        assertThat(ranked).containsExactly(many, single, poor);
+
+        Leaderboard.Entry entry = entry(single).orElseThrow();
+        assertThat(entry.name()).isEqualTo("single perfect review");
+        assertThat(entry.reviewCount()).isEqualTo(1);
+        assertThat(entry.averageRating()).isEqualTo(5.0);
+        assertThat(entry.score()).isLessThan(5.0);
+    }
+
+    @Test
+    void ratingChangeReplacesEntryUnlessAggregateIsStale() {
+        Long restaurantId = restaurant("updated restaurant");
+        rating(restaurantId, 1, 4.0, now);
+        restaurantLeaderboard.load();
+        assertThat(entry(restaurantId)).map(Leaderboard.Entry::reviewCount).contains(1L);
+
+        // 이미 반영한 집계보다 오래된 집계는 무시
+        rating(restaurantId, 5, 25.0, now.minusMinutes(1));
+        restaurantLeaderboard.onRatingChanged(new RestaurantRatingChangedEvent(restaurantId));
+        assertThat(entry(restaurantId)).map(Leaderboard.Entry::reviewCount).contains(1L);
+
+        // 새 집계는 기존 항목을 교체
+        rating(restaurantId, 3, 6.0, now.plusMinutes(1));
+        restaurantLeaderboard.onRatingChanged(new RestaurantRatingChangedEvent(restaurantId));
+        assertThat(restaurantLeaderboard.top(Integer.MAX_VALUE))
+                .filteredOn(entry -> entry.id() == restaurantId)
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.reviewCount()).isEqualTo(3);
+                    assertThat(entry.averageRating()).isEqualTo(2.0);
+                });
+
+        // 리뷰가 모두 지워지면 순위에서 빠짐
+        rating(restaurantId, 0, 0.0, now.plusMinutes(2));
+        restaurantLeaderboard.onRatingChanged(new RestaurantRatingChangedEvent(restaurantId));
+        assertThat(entry(restaurantId)).isEmpty();
+    }
+
+    @Test
+    void ratingChangeFetchesNameOfUnknownRestaurant() {
+        // 등록 이벤트 없이 저장되어 순위표가 이름을 모르는 매장
+        Long restaurantId = restaurant("registered elsewhere");
+        rating(restaurantId, 2, 9.0, now);
+
+        restaurantLeaderboard.onRatingChanged(new RestaurantRatingChangedEvent(restaurantId));
+
+        assertThat(entry(restaurantId)).map(Leaderboard.Entry::name).contains("registered elsewhere");
+    }
+
+    @Test
+    void refreshReadsOnlyRatingsChangedSinceLastLoad() {
+        restaurantLeaderboard.load();
+
+        // 이벤트 없이 다른 노드에서 바뀐 집계
+        Long restaurantId = restaurant("changed elsewhere");
+        rating(restaurantId, 4, 18.0, LocalDateTime.now().plusSeconds(1));
+        assertThat(entry(restaurantId)).isEmpty();
+
+        restaurantLeaderboard.refresh();
+
+        assertThat(entry(restaurantId)).map(Leaderboard.Entry::reviewCount).contains(4L);
+    }
+
+    @Test
+    void skipsRatingOfRestaurantThatCannotBeNamed() {
+        long missingId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        rating(missingId, 3, 12.0, now);
+
+        restaurantLeaderboard.onRatingChanged(new RestaurantRatingChangedEvent(missingId));
+        assertThat(entry(missingId)).isEmpty();
+
+        restaurantLeaderboard.load();
+        assertThat(entry(missingId)).isEmpty();
+    }
+
+    private Long restaurant(String name) {
+        return fixtures.restaurant(name, manager).getId();
+    }
+
+    private void rating(Long restaurantId, long reviewCount, double ratingSum, LocalDateTime updatedAt) {
+        restaurantRatingRepository.save(RestaurantRatingEntity.builder()
+                .restaurantId(restaurantId).reviewCount(reviewCount).ratingSum(ratingSum).updatedAt(updatedAt)
+                .build());
+    }
+
+    private Optional<Leaderboard.Entry> entry(Long restaurantId) {
+        return restaurantLeaderboard.top(Integer.MAX_VALUE).stream()
+                .filter(entry -> entry.id() == restaurantId)
+                .findFirst();
+    }
+}
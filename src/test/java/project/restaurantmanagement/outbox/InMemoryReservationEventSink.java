@@ -0,0 +1,40 @@
+package project.restaurantmanagement.outbox;
+
+import project.restaurantmanagement.dto.ReservationEventDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전달받은 예약 이벤트를 메모리에 모아두는 테스트용 sink 입니다.
+ */
+public class InMemoryReservationEventSink implements ReservationEventSink {
+
+    private final List<ReservationEventDto> events = new ArrayList<>();
+    private int failures;
+
+    @Override
+    public String name() {
+        return "in-memory";
+    }
+
+    @Override
+    public synchronized void deliver(List<ReservationEventDto> batch) {
+        if (failures > 0) {
+            failures--;
+            throw new IllegalStateException("sink unavailable");
+        }
+        events.addAll(batch);
+    }
+
+    public synchronized List<ReservationEventDto> events() {
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * 다음 count 번의 전달을 실패시킵니다.
+     */
+    public synchronized void failNext(int count) {
+        failures = count;
+    }
+}
@@ -0,0 +1,143 @@
+package project.restaurantmanagement.outbox;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * outbox 읽기 위치가 늦게 커밋되는 id 를 기다리고, 기다린 시간이 지난 gap 만 지나가며, 같은 id 를 두 번 전달하지 않는지,
+ * 기다리는 gap 이 마지막으로 읽은 id 앞의 일정 개수로 제한되는지 확인합니다.
+ */
+class OutboxCursorTest {
+
+    private static final long GAP_TIMEOUT = 5_000L;
+    private static final int MAX_GAP_IDS = 100;
+
+    @Test
+    void advancesOverContiguousIds() {
+        OutboxCursor cursor = new OutboxCursor(10L, GAP_TIMEOUT, MAX_GAP_IDS);
+
+        assertThat(cursor.accept(11L)).isTrue();
+        assertThat(cursor.accept(12L)).isTrue();
+        cursor.advance(0L);
+
+        assertThat(cursor.position()).isEqualTo(12L);
+        assertThat(cursor.pendingGaps()).isZero();
+    }
+
+    @Test
+    void waitsForIdCommittedOutOfOrder() {
+        OutboxCursor cursor = new OutboxCursor(10L, GAP_TIMEOUT, MAX_GAP_IDS);
+
+        // 12 가 먼저 커밋되고 11 은 아직 보이지 않음
+        cursor.accept(12L);
+        cursor.advance(1_000L);
+        assertThat(cursor.position()).isEqualTo(10L);
+        assertThat(cursor.pendingGaps()).isEqualTo(1);
+
+        // 기다리는 동안 11 이 커밋되면 두 id 모두 지나감
+        assertThat(cursor.accept(11L)).isTrue();
+        cursor.advance(2_000L);
+        assertThat(cursor.position()).isEqualTo(12L);
+        assertThat(cursor.pendingGaps()).isZero();
+    }
+
+    @Test
+    void skipsGapOnlyAfterTimeout() {
+        OutboxCursor cursor = new OutboxCursor(10L, GAP_TIMEOUT, MAX_GAP_IDS);
+
+        cursor.accept(13L);
+        cursor.advance(1_000L);
+        assertThat(cursor.position()).isEqualTo(10L);
+        assertThat(cursor.pendingGaps()).isEqualTo(2);
+
+        cursor.advance(1_000L + GAP_TIMEOUT - 1);
+        assertThat(cursor.position()).isEqualTo(10L);
+
+        // 연속된 gap 은 함께 기다렸으므로 한 번에 지나감
+        cursor.advance(1_000L + GAP_TIMEOUT);
+        assertThat(cursor.position()).isEqualTo(13L);
+        assertThat(cursor.pendingGaps()).isZero();
+    }
+
+    @Test
+    void gapTimerStartsWhenGapIsFirstSeen() {
+        OutboxCursor cursor = new OutboxCursor(10L, GAP_TIMEOUT, MAX_GAP_IDS);
+
+        cursor.accept(12L);
+        cursor.advance(0L);
+        cursor.accept(14L);
+        cursor.advance(3_000L);
+
+        // 11 은 시간이 지나 지나가지만, 나중에 발견한 13 은 아직 기다림
+        cursor.advance(GAP_TIMEOUT);
+        assertThat(cursor.position()).isEqualTo(12L);
+        assertThat(cursor.pendingGaps()).isEqualTo(1);
+
+        cursor.advance(3_000L + GAP_TIMEOUT);
+        assertThat(cursor.position()).isEqualTo(14L);
+    }
+
+    @Test
+    void neverAcceptsSameIdTwice() {
+        OutboxCursor cursor = new OutboxCursor(10L, GAP_TIMEOUT, MAX_GAP_IDS);
+
+        assertThat(cursor.accept(12L)).isTrue();
+        assertThat(cursor.accept(12L)).isFalse();
+        cursor.advance(0L);
+
+        // 아직 position 을 넘지 못한 id 를 다시 읽어도 중복 전달하지 않음
+        assertThat(cursor.accept(12L)).isFalse();
+
+        cursor.accept(11L);
+        cursor.advance(0L);
+        assertThat(cursor.position()).isEqualTo(12L);
+        assertThat(cursor.accept(11L)).isFalse();
+        assertThat(cursor.accept(12L)).isFalse();
+    }
+
+    @Test
+    void dropsIdCommittedAfterItsGapExpired() {
+        OutboxCursor cursor = new OutboxCursor(10L, GAP_TIMEOUT, MAX_GAP_IDS);
+
+        cursor.accept(12L);
+        cursor.advance(0L);
+        cursor.advance(GAP_TIMEOUT);
+        assertThat(cursor.position()).isEqualTo(12L);
+
+        // 기다린 시간이 지난 뒤 커밋된 id 는 더 이상 전달하지 않음
+        assertThat(cursor.accept(11L)).isFalse();
+    }
+
+    @Test
+    void doesNotTrackEveryIdOfLargeJump() {
+        // outbox 를 비운 뒤 처음 읽은 id 가 시작 위치보다 훨씬 큰 경우
+        OutboxCursor cursor = new OutboxCursor(0L, GAP_TIMEOUT, MAX_GAP_IDS);
+
+        cursor.accept(1_000_000L);
+        cursor.advance(0L);
+        assertThat(cursor.position()).isEqualTo(1_000_000L - MAX_GAP_IDS - 1);
+        assertThat(cursor.pendingGaps()).isEqualTo(MAX_GAP_IDS);
+
+        cursor.advance(GAP_TIMEOUT);
+        assertThat(cursor.position()).isEqualTo(1_000_000L);
+        assertThat(cursor.pendingGaps()).isZero();
+    }
+
+    @Test
+    void stopsWaitingForGapThatFallsOutOfWindow() {
+        OutboxCursor cursor = new OutboxCursor(10L, GAP_TIMEOUT, 5);
+
+        cursor.accept(12L);
+        cursor.advance(0L);
+        assertThat(cursor.pendingGaps()).isEqualTo(1);
+
+        // 11 을 기다리는 동안 읽은 id 가 창 크기 이상 앞서 나가면 11 은 포기함
+        cursor.accept(20L);
+        cursor.advance(1_000L);
+        assertThat(cursor.position()).isEqualTo(14L);
+        assertThat(cursor.pendingGaps()).isEqualTo(5);
+        assertThat(cursor.accept(11L)).isFalse();
+        assertThat(cursor.accept(12L)).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package project.restaurantmanagement.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.dto.RegisterReservationDto;
+import project.restaurantmanagement.dto.ReservationDto;
+import project.restaurantmanagement.dto.ReservationEventDto;
+import project.restaurantmanagement.entity.CustomerEntity;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.repository.CustomerRepository;
+import project.restaurantmanagement.repository.ManagerRepository;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.scheduler.ReservationOutboxDispatcher;
+import project.restaurantmanagement.security.UserPrincipal;
+import project.restaurantmanagement.service.CustomerService;
+import project.restaurantmanagement.service.ReservationService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static project.restaurantmanagement.model.type.AcceptStatus.ACCEPT;
+import static project.restaurantmanagement.model.type.ReservationStatus.ACCEPTED;
+import static project.restaurantmanagement.model.type.ReservationStatus.PENDING;
+import static project.restaurantmanagement.model.type.UserType.CUSTOMER;
+import static project.restaurantmanagement.model.type.UserType.MANAGER;
+
+/**
+ * 예약 상태 변경이 outbox 를 거쳐 sink 에 순서대로, 실패 시 다시 전달되는지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.outbox.poll-interval=3600000")
+@ActiveProfiles("test")
+@Import(InMemoryReservationEventSink.class)
+class ReservationOutboxDispatcherTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationOutboxDispatcher dispatcher;
+
+    @Autowired
+    private InMemoryReservationEventSink sink;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Test
+    void statusChangesAreDeliveredInOrderAndRedeliveredAfterFailure() {
+        ManagerEntity manager = managerRepository.save(ManagerEntity.builder()
+                .email("outbox-manager@test.com").name("manager").userType(MANAGER).build());
+        CustomerEntity customer = customerRepository.save(CustomerEntity.builder()
+                .email("outbox-customer@test.com").name("customer").userType(CUSTOMER).build());
+        RestaurantEntity restaurant = restaurantRepository.save(RestaurantEntity.builder()
+                .name("outbox restaurant").managerEntity(manager).seatCapacity(10).slotMinutes(60).build());
+
+        ReservationDto reservation = customerService.createReservation(RegisterReservationDto.builder()
+                        .restaurantId(restaurant.getId()).peopleCount(2)
+                        .reservationTime(LocalDateTime.now().plusDays(1).withMinute(0).withSecond(0).withNano(0))
+                        .build(),
+                new UserPrincipal(customer.getId(), customer.getEmail(), CUSTOMER, 0L));
+        reservationService.acceptOrRefuseReservation(
+                new UserPrincipal(manager.getId(), manager.getEmail(), MANAGER, 0L), reservation.getReservationId(), ACCEPT);
+
+        // 실패한 묶음은 전달 완료로 표시되지 않음
+        sink.failNext(1);
+        dispatcher.dispatch();
+        assertThat(eventsOf(reservation.getReservationId())).isEmpty();
+
+        dispatcher.dispatch();
+        List<ReservationEventDto> events = eventsOf(reservation.getReservationId());
+        assertThat(events).extracting(ReservationEventDto::getStatus).containsExactly(PENDING, ACCEPTED);
+        assertThat(events.get(0).getEventId()).isLessThan(events.get(1).getEventId());
+
+        // 전달 완료된 이벤트는 다시 전달되지 않음
+        dispatcher.dispatch();
+        assertThat(eventsOf(reservation.getReservationId())).hasSize(2);
+    }
+
+    private List<ReservationEventDto> eventsOf(Long reservationId) {
+        return sink.events().stream().filter(event -> event.getReservationId().equals(reservationId)).toList();
+    }
+}
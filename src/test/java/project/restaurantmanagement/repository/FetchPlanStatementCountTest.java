@@ -0,0 +1,79 @@
+package project.restaurantmanagement.repository;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.dto.RestaurantDto;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static project.restaurantmanagement.model.type.UserType.MANAGER;
+
+/**
+ * 목록 조회 후 DTO 변환까지 SQL 한 번만 실행되고(N+1 없음), 연관 엔티티 행은 읽지 않는지 확인합니다.
+ * DTO 는 연관 엔티티의 id 만 쓰므로 FK 값으로 충분하며, 매니저/고객 행(비밀번호 해시 포함)을 함께 읽으면 실패합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class FetchPlanStatementCountTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    private Statistics statistics;
+    private ManagerEntity manager;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        manager = entityManager.persist(ManagerEntity.builder()
+                .email("manager@test.com").name("manager").userType(MANAGER).build());
+
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(RestaurantEntity.builder()
+                    .name("restaurant" + i).managerEntity(manager).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void restaurantPageReadsOnlyRestaurantRows() {
+        List<RestaurantEntity> page = restaurantRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, ROWS + 1));
+        List<RestaurantDto> restaurants = RestaurantDto.from(page);
+
+        assertThat(restaurants).hasSize(ROWS);
+        assertThat(restaurants).allSatisfy(dto -> assertThat(dto.getManagerId()).isEqualTo(manager.getId()));
+        assertThat(page).noneMatch(restaurant -> Hibernate.isInitialized(restaurant.getManagerEntity()));
+        assertSingleStatementLoading(ROWS);
+    }
+
+    /**
+     * SQL 은 한 번만 실행되고, 읽은 엔티티는 조회 대상 행뿐이어야 합니다.
+     */
+    private void assertSingleStatementLoading(int rows) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(rows);
+    }
+}
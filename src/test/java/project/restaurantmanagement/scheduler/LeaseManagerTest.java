@@ -0,0 +1,114 @@
+package project.restaurantmanagement.scheduler;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import project.restaurantmanagement.RestaurantManagementApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 데이터베이스를 쓰는 두 애플리케이션 컨텍스트(노드)로 lease 동작을 확인합니다.
+ */
+class LeaseManagerTest {
+
+    private static final long TTL_MILLIS = 500;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static LeaseManager leaseA;
+    private static LeaseManager leaseB;
+
+    @BeforeAll
+    static void startNodes() {
+        String url = "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+        nodeA = startNode(url, "node-a");
+        nodeB = startNode(url, "node-b");
+        leaseA = nodeA.getBean(LeaseManager.class);
+        leaseB = nodeB.getBean(LeaseManager.class);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void onlyOneNodeHoldsLease() {
+        Optional<LeaseManager.Lease> a = leaseA.tryAcquire("exclusive");
+        Optional<LeaseManager.Lease> b = leaseB.tryAcquire("exclusive");
+
+        assertThat(a).isPresent();
+        assertThat(b).isEmpty();
+        // 보유 노드는 다시 요청하면 같은 token 으로 연장
+        assertThat(leaseA.tryAcquire("exclusive")).contains(a.get());
+    }
+
+    @Test
+    void expiredLeaseFailsOverWithNewFencingToken() throws InterruptedException {
+        LeaseManager.Lease a = leaseA.tryAcquire("failover").orElseThrow();
+
+        // node-a 가 멈춰 연장하지 못한 상황
+        Thread.sleep(TTL_MILLIS * 2);
+        LeaseManager.Lease b = leaseB.tryAcquire("failover").orElseThrow();
+
+        assertThat(b.owner()).isEqualTo("node-b");
+        assertThat(b.token()).isGreaterThan(a.token());
+        // 이전 보유자의 쓰기는 fencing 으로 거절
+        assertThat(leaseA.renew(a)).isFalse();
+        assertThat(leaseB.renew(b)).isTrue();
+    }
+
+    @Test
+    void concurrentAcquireElectsSingleHolderPerRound() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int round = 0; round < 20; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Optional<LeaseManager.Lease>>> attempts = new ArrayList<>();
+
+                for (LeaseManager node : List.of(leaseA, leaseB, leaseA, leaseB)) {
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        return node.tryAcquire("round");
+                    }));
+                }
+                start.countDown();
+
+                List<LeaseManager.Lease> holders = new ArrayList<>();
+                for (Future<Optional<LeaseManager.Lease>> attempt : attempts) {
+                    attempt.get(10, TimeUnit.SECONDS).ifPresent(holders::add);
+                }
+
+                // 같은 노드의 두 요청은 같은 lease 를 받을 수 있으나, 두 노드가 동시에 가질 수는 없음
+                assertThat(holders).isNotEmpty();
+                assertThat(holders.stream().map(LeaseManager.Lease::owner).distinct()).hasSize(1);
+
+                LeaseManager.Lease holder = holders.get(0);
+                (holder.owner().equals("node-a") ? leaseA : leaseB).release(holder);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String url, String owner) {
+        return new SpringApplicationBuilder(RestaurantManagementApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.scheduler.lease.owner=" + owner,
+                        "--spring.scheduler.lease.ttl-millis=" + TTL_MILLIS,
+                        "--server.port=0");
+    }
+}
@@ -0,0 +1,164 @@
+package project.restaurantmanagement.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 타이밍 휠이 올림한 만료 시각의 정확한 tick 에 id 를 꺼내고, 상위 휠에서 하위 휠로 내려오는 항목도 놓치지 않으며,
+ * horizon 밖의 만료 시각 거부와 취소/재등록을 올바르게 처리하는지 확인합니다.
+ */
+class TimingWheelTest {
+
+    // 1초 x 4, 4초 x 3, 12초 x 2 : 24초 범위
+    private static final long TICK = 1_000L;
+    private static final int[] WHEEL_SIZES = {4, 3, 2};
+
+    @Test
+    void firesExactlyAtDeadlineTick() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+
+        assertThat(wheel.schedule(1L, 3_000L)).isTrue();
+
+        assertThat(wheel.advance(2_999L)).isEmpty();
+        assertThat(wheel.advance(3_000L)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void roundsDeadlineUpToNextTick() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+
+        wheel.schedule(1L, 1_500L);
+
+        // 만료 시각보다 일찍 꺼내지 않음
+        assertThat(wheel.advance(1_000L)).isEmpty();
+        assertThat(wheel.advance(1_999L)).isEmpty();
+        assertThat(wheel.advance(2_000L)).containsExactly(1L);
+    }
+
+    @Test
+    void cascadesFromUpperLevelsAtExactTick() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+        Map<Long, Long> deadlines = new LinkedHashMap<>();
+        deadlines.put(1L, 3_000L);   // 1단계 휠
+        deadlines.put(2L, 4_000L);   // 2단계 휠 첫 버킷 경계
+        deadlines.put(3L, 9_000L);   // 2단계 휠
+        deadlines.put(4L, 12_000L);  // 3단계 휠 버킷 경계
+        deadlines.put(5L, 13_000L);  // 3단계 휠
+        deadlines.put(6L, 23_000L);  // 휠이 담는 마지막 tick
+        deadlines.forEach(wheel::schedule);
+
+        Map<Long, Long> fired = new LinkedHashMap<>();
+        for (long now = TICK; now <= 24_000L; now += TICK) {
+            for (Long id : wheel.advance(now)) {
+                fired.put(id, now);
+            }
+        }
+
+        assertThat(fired).containsExactlyEntriesOf(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advanceOverManyTicksReturnsEveryDueIdInOrder() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+        wheel.schedule(5L, 13_000L);
+        wheel.schedule(3L, 9_000L);
+        wheel.schedule(1L, 3_000L);
+        wheel.schedule(6L, 23_000L);
+
+        assertThat(wheel.advance(13_500L)).containsExactly(1L, 3L, 5L);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(60_000L)).containsExactly(6L);
+    }
+
+    @Test
+    void alignsUnalignedStartTimeDownToTick() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 1_234L);
+
+        // 현재 시각은 1_000 으로 내림되므로 그 이하의 만료 시각은 이미 지난 것으로 처리
+        assertThat(wheel.schedule(1L, 1_000L)).isFalse();
+        assertThat(wheel.schedule(2L, 1_001L)).isTrue();
+
+        assertThat(wheel.advance(1_999L)).isEmpty();
+        assertThat(wheel.advance(2_000L)).containsExactly(2L);
+    }
+
+    @Test
+    void rejectsDeadlineThatIsAlreadyDue() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+        wheel.schedule(1L, 8_000L);
+        wheel.advance(5_000L);
+
+        assertThat(wheel.schedule(2L, 5_000L)).isFalse();
+        assertThat(wheel.schedule(2L, 4_000L)).isFalse();
+
+        // 이미 등록된 id 를 지난 시각으로 다시 등록하면 기존 등록도 지움
+        assertThat(wheel.schedule(1L, 4_500L)).isFalse();
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(10_000L)).isEmpty();
+    }
+
+    @Test
+    void rejectsDeadlineBeyondHorizon() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+        assertThat(wheel.horizon()).isEqualTo(23_001L);
+
+        assertThat(wheel.schedule(1L, 23_000L)).isTrue();
+        // 24_000 으로 올림되어 휠 범위를 벗어남
+        assertThatThrownBy(() -> wheel.schedule(2L, 23_001L)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(wheel.size()).isEqualTo(1);
+
+        // 거부되어도 기존 등록은 그대로 유지
+        wheel.schedule(3L, 5_000L);
+        assertThatThrownBy(() -> wheel.schedule(3L, 30_000L)).isInstanceOf(IllegalArgumentException.class);
+
+        // 시간이 지나 horizon 이 늘어나면 등록 가능
+        assertThat(wheel.advance(1_000L)).isEmpty();
+        assertThat(wheel.horizon()).isEqualTo(24_001L);
+        assertThat(wheel.schedule(2L, 23_001L)).isTrue();
+
+        assertThat(wheel.advance(5_000L)).containsExactly(3L);
+        assertThat(wheel.advance(23_000L)).containsExactly(1L);
+        assertThat(wheel.advance(24_000L)).containsExactly(2L);
+    }
+
+    @Test
+    void cancelledIdIsNotFired() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+        wheel.schedule(1L, 5_000L);
+        wheel.schedule(2L, 5_000L);
+        wheel.schedule(3L, 15_000L);
+
+        wheel.cancel(1L);
+        wheel.cancel(3L);
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advance(5_000L)).containsExactly(2L);
+        assertThat(wheel.advance(20_000L)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rescheduleFiresOnlyAtLatestDeadline() {
+        TimingWheel wheel = new TimingWheel(TICK, WHEEL_SIZES, 0L);
+
+        // 늦추면 이전 만료 시각의 항목은 건너뜀
+        wheel.schedule(1L, 6_000L);
+        wheel.schedule(1L, 10_000L);
+        // 앞당기면 상위 휠에 남은 이전 항목은 건너뜀
+        wheel.schedule(2L, 20_000L);
+        wheel.schedule(2L, 11_000L);
+        assertThat(wheel.size()).isEqualTo(2);
+
+        assertThat(wheel.advance(9_999L)).isEmpty();
+        assertThat(wheel.advance(10_000L)).containsExactly(1L);
+        assertThat(wheel.advance(11_000L)).containsExactly(2L);
+        assertThat(wheel.advance(23_000L)).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+package project.restaurantmanagement.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.dto.SignInDto;
+import project.restaurantmanagement.dto.SignUpDto;
+import project.restaurantmanagement.repository.CustomerRepository;
+import project.restaurantmanagement.repository.ManagerRepository;
+import project.restaurantmanagement.service.CustomerService;
+import project.restaurantmanagement.service.ManagerService;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 기기에서 로그아웃하면 이전에 발급된 토큰이 이 노드에서는 바로, 다른 노드에서는 다음 토큰 버전 갱신 후,
+ * 새로 시작한 노드에서는 첫 요청부터 거부되고 다시 로그인하여 받은 토큰은 계속 사용할 수 있는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenRevocationTest {
+
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Test
+    void customerTokenIsRevokedAfterSignOutEverywhere() {
+        String email = "revoke-customer-" + UUID.randomUUID() + "@test.com";
+        customerService.register(signUp(email));
+
+        // 다른 노드: 자기 노드의 로그아웃 이벤트를 받지 못하고 주기적 갱신으로만 버전을 알게 됨
+        TokenVersionRegistry otherNode = new TokenVersionRegistry(customerRepository, managerRepository);
+        otherNode.refresh();
+
+        UserPrincipal before = tokenProvider.getPrincipal(customerService.authenticate(signIn(email)).getToken());
+        assertThat(authenticationService.getAuthentication(before)).isNotNull();
+        assertThat(otherNode.isCurrent(before)).isTrue();
+
+        customerService.signOutEverywhere(before);
+
+        // 로그아웃한 노드에서는 바로 거부
+        assertThat(authenticationService.getAuthentication(before)).isNull();
+
+        // 다른 노드에서는 다음 갱신 후 거부
+        assertThat(otherNode.isCurrent(before)).isTrue();
+        otherNode.refresh();
+        assertThat(otherNode.isCurrent(before)).isFalse();
+
+        // 새로 시작한 노드는 초기 적재를 마친 뒤에 확인
+        TokenVersionRegistry startingNode = new TokenVersionRegistry(customerRepository, managerRepository);
+        assertThat(startingNode.isCurrent(before)).isFalse();
+
+        // 다시 로그인하여 받은 토큰은 양쪽 모두에서 유효
+        UserPrincipal after = tokenProvider.getPrincipal(customerService.authenticate(signIn(email)).getToken());
+        assertThat(after.getTokenVersion()).isEqualTo(before.getTokenVersion() + 1);
+        assertThat(authenticationService.getAuthentication(after)).isNotNull();
+        assertThat(otherNode.isCurrent(after)).isTrue();
+    }
+
+    @Test
+    void managerTokenIsRevokedAfterSignOutEverywhere() {
+        String email = "revoke-manager-" + UUID.randomUUID() + "@test.com";
+        managerService.register(signUp(email));
+
+        UserPrincipal before = tokenProvider.getPrincipal(managerService.authenticate(signIn(email)).getToken());
+        assertThat(authenticationService.getAuthentication(before)).isNotNull();
+
+        managerService.signOutEverywhere(before);
+        assertThat(authenticationService.getAuthentication(before)).isNull();
+
+        UserPrincipal after = tokenProvider.getPrincipal(managerService.authenticate(signIn(email)).getToken());
+        assertThat(authenticationService.getAuthentication(after)).isNotNull();
+    }
+
+    private SignUpDto.Request signUp(String email) {
+        SignUpDto.Request request = new SignUpDto.Request();
+        request.setEmail(email);
+        request.setName("user");
+        request.setPassword(PASSWORD);
+        return request;
+    }
+
+    private SignInDto.Request signIn(String email) {
+        SignInDto.Request request = new SignInDto.Request();
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+        return request;
+    }
+}
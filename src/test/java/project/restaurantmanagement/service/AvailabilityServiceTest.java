@@ -0,0 +1,60 @@
+package project.restaurantmanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.TestFixtures;
+import project.restaurantmanagement.dto.AvailabilityDto;
+import project.restaurantmanagement.exception.GlobalException;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static project.restaurantmanagement.exception.ErrorCode.INVALID_DATE_RANGE;
+
+/**
+ * 예약 가능 시간대 조회가 오늘부터 horizon-days(기본 90일) 이내의 날짜만 받아, 인덱스에 보관하는 날짜 수가 제한되는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AvailabilityServiceTest {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long restaurantId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = fixtures.restaurant("availability restaurant", fixtures.manager("availability"), 10, 60)
+                .getId();
+        today = LocalDate.now();
+    }
+
+    @Test
+    void rejectsStartOutsideHorizon() {
+        for (LocalDate start : new LocalDate[]{today.minusDays(1), today.plusDays(91), today.plusYears(5)}) {
+            assertThatThrownBy(() -> availabilityService.viewAvailability(restaurantId, start, null, null))
+                    .isInstanceOfSatisfying(GlobalException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(INVALID_DATE_RANGE));
+        }
+    }
+
+    @Test
+    void truncatesEndAtHorizon() {
+        AvailabilityDto availability = availabilityService.viewAvailability(restaurantId,
+                today.plusDays(88), today.plusDays(100), 2);
+
+        // 88, 89, 90일 뒤의 24개 시간대만 조회됨
+        assertThat(availability.getSlots()).hasSize(3 * 24);
+        assertThat(availability.getSlots())
+                .allSatisfy(slot -> assertThat(slot.getSlotTime().toLocalDate()).isBefore(today.plusDays(91)));
+    }
+}
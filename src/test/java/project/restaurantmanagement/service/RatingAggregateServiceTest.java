@@ -0,0 +1,140 @@
+package project.restaurantmanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.TestFixtures;
+import project.restaurantmanagement.dto.RestaurantDto;
+import project.restaurantmanagement.dto.ReviewDto;
+import project.restaurantmanagement.entity.*;
+import project.restaurantmanagement.model.type.Rating;
+import project.restaurantmanagement.repository.*;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static project.restaurantmanagement.model.type.Rating.*;
+import static project.restaurantmanagement.model.type.ReservationStatus.COMPLETED;
+
+/**
+ * 리뷰 추가/수정/삭제가 평점 집계에 증감값으로 반영되고,
+ * 집계 행이 없던 매장은 처음 변경될 때 리뷰 테이블에서 다시 계산되는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RatingAggregateServiceTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RestaurantRatingRepository restaurantRatingRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private ManagerEntity manager;
+    private CustomerEntity customer;
+    private RestaurantEntity restaurant;
+    private UserPrincipal customerPrincipal;
+
+    @BeforeEach
+    void setUp() {
+        manager = fixtures.manager("rating");
+        customer = fixtures.customer("rating");
+        // 집계 행 없이 저장한 매장 (집계 도입 이전 매장과 같은 상태)
+        restaurant = fixtures.restaurant("rating restaurant", manager);
+        customerPrincipal = TestFixtures.principal(customer);
+    }
+
+    @Test
+    void firstChangeReconcilesFromExistingReviews() {
+        // 집계가 생기기 전에 이미 있던 리뷰
+        reviewRepository.save(ReviewEntity.builder().title("old").comment("old")
+                .customerEntity(customer).restaurantEntity(restaurant).managerEntity(manager).rating(2.0).build());
+        assertThat(restaurantRatingRepository.findById(restaurant.getId())).isEmpty();
+
+        addReview(STAR_4);
+
+        assertAggregate(2, 6.0, 0, 1, 0, 1, 0);
+    }
+
+    @Test
+    void addUpdateAndDeleteApplyDeltas() {
+        addReview(STAR_5);
+        addReview(STAR_3);
+        addReview(STAR_3);
+        assertAggregate(3, 11.0, 0, 0, 2, 0, 1);
+
+        List<Long> reviewIds = reviewIds();
+
+        // 평점이 바뀌면 이전 평점에서 빠지고 새 평점에 더해짐
+        reviewService.updateReview(review(STAR_1), reviewIds.get(1), customerPrincipal);
+        assertAggregate(3, 9.0, 1, 0, 1, 0, 1);
+
+        // 평점이 같으면 집계는 그대로
+        reviewService.updateReview(review(STAR_1), reviewIds.get(1), customerPrincipal);
+        assertAggregate(3, 9.0, 1, 0, 1, 0, 1);
+
+        reviewService.deleteReviewCustomer(customerPrincipal, reviewIds.get(0));
+        assertAggregate(2, 4.0, 1, 0, 1, 0, 0);
+
+        reviewService.deleteReviewManager(TestFixtures.principal(manager),
+                reviewIds.get(2));
+        assertAggregate(1, 1.0, 1, 0, 0, 0, 0);
+    }
+
+    @Test
+    void restaurantDetailReadsCurrentAggregate() {
+        RestaurantDto before = restaurantService.withRating(restaurantService.viewRestaurant(restaurant.getId()));
+        assertThat(before.getReviewCount()).isZero();
+
+        // 매장 정보는 캐시에 남아 있어도 평점 집계는 매번 새로 읽음
+        addReview(STAR_4);
+        RestaurantDto after = restaurantService.withRating(restaurantService.viewRestaurant(restaurant.getId()));
+
+        assertThat(after.getReviewCount()).isEqualTo(1);
+        assertThat(after.getAverageRating()).isEqualTo(4.0);
+        assertThat(after.getRatingUpdatedAt()).isNotNull();
+    }
+
+    private void addReview(Rating rating) {
+        ReservationEntity reservation = reservationRepository.save(ReservationEntity.builder()
+                .customerEntity(customer).managerEntity(manager).restaurantEntity(restaurant)
+                .peopleCount(2).reservationTime(LocalDateTime.now().minusDays(1)).visited(true).status(COMPLETED)
+                .build());
+        reviewService.addReview(review(rating), reservation.getId(), customerPrincipal);
+    }
+
+    private ReviewDto review(Rating rating) {
+        return ReviewDto.builder().title("title").comments("comments").rating(rating).build();
+    }
+
+    private List<Long> reviewIds() {
+        return reviewRepository.findAll().stream()
+                .filter(review -> review.getRestaurantEntity().getId().equals(restaurant.getId()))
+                .map(ReviewEntity::getId)
+                .sorted()
+                .toList();
+    }
+
+    private void assertAggregate(long count, double sum, long... histogram) {
+        RestaurantRatingEntity rating = restaurantRatingRepository.findById(restaurant.getId()).orElseThrow();
+        assertThat(rating.getReviewCount()).isEqualTo(count);
+        assertThat(rating.getRatingSum()).isEqualTo(sum);
+        assertThat(rating.getHistogram()).containsExactly(histogram);
+    }
+}
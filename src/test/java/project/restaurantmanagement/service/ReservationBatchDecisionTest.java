@@ -0,0 +1,232 @@
+package project.restaurantmanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.restaurantmanagement.TestFixtures;
+import project.restaurantmanagement.dto.BatchDecisionDto;
+import project.restaurantmanagement.dto.BatchDecisionResultDto;
+import project.restaurantmanagement.dto.RegisterReservationDto;
+import project.restaurantmanagement.dto.VisitRestaurantDto;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.model.type.ReservationStatus;
+import project.restaurantmanagement.repository.ReservationRepository;
+import project.restaurantmanagement.repository.RestaurantSlotRepository;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static project.restaurantmanagement.exception.ErrorCode.*;
+import static project.restaurantmanagement.model.type.AcceptStatus.ACCEPT;
+import static project.restaurantmanagement.model.type.AcceptStatus.REFUSE;
+import static project.restaurantmanagement.model.type.ReservationStatus.ACCEPTED;
+import static project.restaurantmanagement.model.type.ReservationStatus.CANCELLED;
+
+/**
+ * 예약 일괄 승인/거절이 매장 소유 여부, 예약 상태, 중복 ID 를 올바르게 처리하고 단건 처리도 다른 매장의 예약을 거부하며,
+ * 동시에 같은 예약을 처리해도 한 번만 변경되어 좌석이 한 번만 반환되고, 노쇼로 취소된 예약은 방문 처리되지 않는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationBatchDecisionTest {
+
+    private static final int SEAT_CAPACITY = 50;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RestaurantSlotRepository restaurantSlotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UserPrincipal manager;
+    private UserPrincipal customer;
+    private RestaurantEntity restaurant;
+    private RestaurantEntity otherRestaurant;
+    private LocalDateTime slotStart;
+
+    @BeforeEach
+    void setUp() {
+        ManagerEntity owner = fixtures.manager("batch");
+        ManagerEntity otherOwner = fixtures.manager("batch-other");
+
+        restaurant = fixtures.restaurant("batch restaurant", owner, SEAT_CAPACITY, 30);
+        otherRestaurant = fixtures.restaurant("other restaurant", otherOwner, SEAT_CAPACITY, 30);
+
+        manager = TestFixtures.principal(owner);
+        customer = TestFixtures.principal(fixtures.customer("batch"));
+        slotStart = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void batchReportsOwnershipStateAndDuplicatesPerReservation() {
+        Long first = reserve(restaurant, 2);
+        Long second = reserve(restaurant, 3);
+        Long accepted = reserve(restaurant, 4);
+        Long cancelled = reserve(restaurant, 1);
+        Long foreign = reserve(otherRestaurant, 2);
+        Long missing = Long.MAX_VALUE;
+
+        reservationService.acceptOrRefuseReservation(manager, accepted, ACCEPT);
+        reservationService.acceptOrRefuseReservation(manager, cancelled, REFUSE);
+
+        List<BatchDecisionResultDto> results = reservationService.acceptOrRefuseReservations(manager,
+                BatchDecisionDto.builder()
+                        .reservationIds(List.of(first, second, first, accepted, cancelled, foreign, missing))
+                        .decision(REFUSE)
+                        .build());
+
+        // 중복 ID 는 한 번만, 요청한 순서대로 응답
+        assertThat(results).extracting(BatchDecisionResultDto::getReservationId)
+                .containsExactly(first, second, accepted, cancelled, foreign, missing);
+        assertThat(results).extracting(BatchDecisionResultDto::isSuccess)
+                .containsExactly(true, true, false, false, false, false);
+        assertThat(results).extracting(BatchDecisionResultDto::getErrorCode)
+                .containsExactly(null, null, RESERVATION_ALREADY_PROCESSED, RESERVATION_ALREADY_CANCELED,
+                        RESERVATION_NOT_YOUR_RESTAURANT, RESERVATION_NOT_EXIST);
+
+        assertThat(statusOf(first)).isEqualTo(CANCELLED);
+        assertThat(statusOf(second)).isEqualTo(CANCELLED);
+        assertThat(statusOf(accepted)).isEqualTo(ACCEPTED);
+        assertThat(reservationRepository.findById(foreign).orElseThrow().getStatus()).isNotEqualTo(CANCELLED);
+
+        // 승인된 예약의 좌석만 남아 있어야 함
+        assertThat(reservedSeats(restaurant)).isEqualTo(4);
+        assertThat(reservedSeats(otherRestaurant)).isEqualTo(2);
+
+        // 같은 예약을 다시 거절해도 좌석이 다시 반환되지 않음
+        List<BatchDecisionResultDto> again = reservationService.acceptOrRefuseReservations(manager,
+                BatchDecisionDto.builder().reservationIds(List.of(first)).decision(REFUSE).build());
+        assertThat(again).extracting(BatchDecisionResultDto::getErrorCode)
+                .containsExactly(RESERVATION_ALREADY_CANCELED);
+        assertThat(reservedSeats(restaurant)).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentRefusalsReleaseSeatsOnce() throws Exception {
+        Long accepted = reserve(restaurant, 5);
+        reservationService.acceptOrRefuseReservation(manager, accepted, ACCEPT);
+
+        List<Long> pending = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            pending.add(reserve(restaurant, 2));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            boolean single = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (single) {
+                    // 단건 거절과 일괄 거절이 섞여 들어오는 경우
+                    try {
+                        reservationService.acceptOrRefuseReservation(manager, pending.get(0), REFUSE);
+                        return 1;
+                    } catch (GlobalException e) {
+                        return 0;
+                    }
+                }
+                return (int) reservationService.acceptOrRefuseReservations(manager,
+                                BatchDecisionDto.builder().reservationIds(pending).decision(REFUSE).build())
+                        .stream().filter(BatchDecisionResultDto::isSuccess).count();
+            }));
+        }
+
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Integer> future : futures) {
+            succeeded += future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(pending.size());
+        assertThat(pending).allSatisfy(id -> assertThat(statusOf(id)).isEqualTo(CANCELLED));
+        assertThat(reservedSeats(restaurant)).isEqualTo(5);
+    }
+
+    @Test
+    void singleDecisionOnProcessedReservationFails() {
+        Long reservationId = reserve(restaurant, 2);
+        reservationService.acceptOrRefuseReservation(manager, reservationId, REFUSE);
+
+        assertThatThrownBy(() -> reservationService.acceptOrRefuseReservation(manager, reservationId, REFUSE))
+                .isInstanceOf(GlobalException.class);
+        assertThat(reservedSeats(restaurant)).isZero();
+    }
+
+    @Test
+    void singleDecisionOnOtherRestaurantsReservationFails() {
+        Long foreign = reserve(otherRestaurant, 2);
+
+        assertThatThrownBy(() -> reservationService.acceptOrRefuseReservation(manager, foreign, REFUSE))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(RESERVATION_NOT_YOUR_RESTAURANT);
+        assertThat(statusOf(foreign)).isNotEqualTo(CANCELLED);
+        assertThat(reservedSeats(otherRestaurant)).isEqualTo(2);
+    }
+
+    @Test
+    void visitFailsWhenNoShowCancellationWinsTheRace() {
+        Long reservationId = reserve(restaurant, 2);
+        reservationService.acceptOrRefuseReservation(manager, reservationId, ACCEPT);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            // 방문 확인이 승인 상태의 예약을 읽은 뒤, 커밋 전에 다른 트랜잭션이 노쇼로 취소
+            reservationRepository.findById(reservationId).orElseThrow();
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(other ->
+                    reservationService.cancelNoShows(List.of(reservationId), LocalDateTime.now()))).join();
+
+            customerService.visitRestaurant(new VisitRestaurantDto(TestFixtures.CUSTOMER_NAME, TestFixtures.PHONE_NUMBER), reservationId, customer);
+        }))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(RESERVATION_ALREADY_CANCELED);
+
+        assertThat(statusOf(reservationId)).isEqualTo(CANCELLED);
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().isVisited()).isFalse();
+    }
+
+    private Long reserve(RestaurantEntity target, int peopleCount) {
+        return customerService.createReservation(RegisterReservationDto.builder()
+                .restaurantId(target.getId())
+                .peopleCount(peopleCount)
+                .reservationTime(slotStart)
+                .build(), customer).getReservationId();
+    }
+
+    private ReservationStatus statusOf(Long reservationId) {
+        return reservationRepository.findById(reservationId).orElseThrow().getStatus();
+    }
+
+    private int reservedSeats(RestaurantEntity target) {
+        return restaurantSlotRepository.findAll().stream()
+                .filter(slot -> slot.getRestaurantId().equals(target.getId()))
+                .mapToInt(slot -> slot.getReservedSeats())
+                .sum();
+    }
+}
@@ -0,0 +1,102 @@
+package project.restaurantmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.dto.RegisterReservationDto;
+import project.restaurantmanagement.dto.ReservationDto;
+import project.restaurantmanagement.entity.CustomerEntity;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.repository.CustomerRepository;
+import project.restaurantmanagement.repository.ManagerRepository;
+import project.restaurantmanagement.repository.ReservationRepository;
+import project.restaurantmanagement.repository.RestaurantRepository;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static project.restaurantmanagement.exception.ErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static project.restaurantmanagement.model.type.UserType.CUSTOMER;
+import static project.restaurantmanagement.model.type.UserType.MANAGER;
+
+/**
+ * 같은 Idempotency-Key 의 동시 요청이 DB 유니크 키로 하나의 예약만 만드는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationIdempotencyTest {
+
+    private static final int REQUESTS = 16;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Test
+    void concurrentRetriesWithSameKeyCreateOneReservation() throws Exception {
+        ManagerEntity manager = managerRepository.save(ManagerEntity.builder()
+                .email("idem-manager@test.com").name("manager").userType(MANAGER).build());
+        CustomerEntity customer = customerRepository.save(CustomerEntity.builder()
+                .email("idem-customer@test.com").name("customer").userType(CUSTOMER).build());
+        RestaurantEntity restaurant = restaurantRepository.save(RestaurantEntity.builder()
+                .name("idem restaurant").managerEntity(manager).seatCapacity(100).slotMinutes(60).build());
+
+        UserPrincipal principal = new UserPrincipal(customer.getId(), customer.getEmail(), CUSTOMER, 0L);
+        RegisterReservationDto request = RegisterReservationDto.builder()
+                .restaurantId(restaurant.getId()).peopleCount(2)
+                .reservationTime(LocalDateTime.now().plusDays(1).withHour(12).withMinute(0).withSecond(0).withNano(0))
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReservationDto>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return customerService.createReservation(request, principal, "retry-key");
+            }));
+        }
+
+        start.countDown();
+        Set<Long> reservationIds = ConcurrentHashMap.newKeySet();
+        for (Future<ReservationDto> future : futures) {
+            reservationIds.add(future.get(60, TimeUnit.SECONDS).getReservationId());
+        }
+        executor.shutdown();
+
+        long created = reservationRepository.findAll().stream()
+                .filter(r -> r.getCustomerEntity().getId().equals(customer.getId()))
+                .count();
+
+        assertThat(reservationIds).hasSize(1);
+        assertThat(created).isEqualTo(1);
+
+        // 같은 키로 다른 내용의 요청은 거절
+        RegisterReservationDto other = RegisterReservationDto.builder()
+                .restaurantId(restaurant.getId()).peopleCount(3).reservationTime(request.getReservationTime()).build();
+        assertThatThrownBy(() -> customerService.createReservation(other, principal, "retry-key"))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(IDEMPOTENCY_KEY_REUSED);
+    }
+}
@@ -0,0 +1,166 @@
+package project.restaurantmanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.TestFixtures;
+import project.restaurantmanagement.dto.ReservationDto;
+import project.restaurantmanagement.dto.ReservationPageDto;
+import project.restaurantmanagement.entity.CustomerEntity;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.ReservationEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.model.PageCursor;
+import project.restaurantmanagement.model.type.ReservationStatus;
+import project.restaurantmanagement.repository.ReservationRepository;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static project.restaurantmanagement.exception.ErrorCode.INVALID_CURSOR;
+import static project.restaurantmanagement.exception.ErrorCode.INVALID_DATE_RANGE;
+import static project.restaurantmanagement.model.type.ReservationStatus.*;
+
+/**
+ * 매장 예약 목록의 키셋 페이지네이션이 같은 예약 시각의 예약까지 빠짐없이 한 번씩 순서대로 반환하고,
+ * 기간/상태 필터와 잘못된 커서를 올바르게 처리하는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationPageTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UserPrincipal principal;
+    private RestaurantEntity restaurant;
+    private ManagerEntity manager;
+    private CustomerEntity customer;
+    private LocalDateTime noon;
+
+    @BeforeEach
+    void setUp() {
+        manager = fixtures.manager("page");
+        customer = fixtures.customer("page");
+        restaurant = fixtures.restaurant("page restaurant", manager);
+
+        principal = TestFixtures.principal(manager);
+        noon = LocalDate.now().plusDays(1).atTime(12, 0);
+    }
+
+    @Test
+    void cursorWalkReturnsEveryReservationOnceInOrder() {
+        List<ReservationEntity> saved = new ArrayList<>();
+        // 같은 예약 시각이 페이지 경계에 걸치도록 3건을 같은 시각에 둠
+        for (int i = 0; i < 3; i++) {
+            saved.add(reserve(noon, PENDING));
+        }
+        saved.add(reserve(noon.minusHours(1), ACCEPTED));
+        saved.add(reserve(noon.plusHours(1), PENDING));
+        saved.add(reserve(noon.plusHours(1), CANCELLED));
+        saved.add(reserve(noon.plusDays(3), PENDING));
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(ReservationEntity::getReservationTime).thenComparing(ReservationEntity::getId))
+                .map(ReservationEntity::getId)
+                .toList();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ReservationPageDto page = reservationService.viewReservations(principal, restaurant.getId(),
+                    null, null, null, cursor, 2);
+            assertThat(page.getReservations()).hasSizeLessThanOrEqualTo(2);
+            page.getReservations().forEach(reservation -> walked.add(reservation.getReservationId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        reserve(noon, PENDING);
+        reserve(noon, PENDING);
+
+        ReservationPageDto page = reservationService.viewReservations(principal, restaurant.getId(),
+                null, null, null, null, 2);
+
+        assertThat(page.getReservations()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void filtersByStatus() {
+        reserve(noon, PENDING);
+        Long cancelled = reserve(noon, CANCELLED).getId();
+        reserve(noon.plusHours(1), ACCEPTED);
+
+        ReservationPageDto page = reservationService.viewReservations(principal, restaurant.getId(),
+                null, null, CANCELLED, null, 10);
+
+        assertThat(page.getReservations()).extracting(ReservationDto::getReservationId).containsExactly(cancelled);
+        assertThat(page.getReservations()).extracting(ReservationDto::getStatus).containsOnly(CANCELLED);
+    }
+
+    @Test
+    void filtersByDateRangeInclusive() {
+        LocalDate day = noon.toLocalDate().plusDays(5);
+        reserve(day.minusDays(1).atTime(23, 59), PENDING);
+        Long first = reserve(day.atStartOfDay(), PENDING).getId();
+        Long last = reserve(day.plusDays(1).atTime(23, 59), PENDING).getId();
+        reserve(day.plusDays(2).atStartOfDay(), PENDING);
+
+        ReservationPageDto page = reservationService.viewReservations(principal, restaurant.getId(),
+                day, day.plusDays(1), null, null, 10);
+
+        assertThat(page.getReservations()).extracting(ReservationDto::getReservationId).containsExactly(first, last);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsReversedDateRange() {
+        LocalDate day = noon.toLocalDate();
+
+        assertThatThrownBy(() -> reservationService.viewReservations(principal, restaurant.getId(),
+                day, day.minusDays(1), null, null, 10))
+                .isInstanceOfSatisfying(GlobalException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(INVALID_DATE_RANGE));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        reserve(noon, PENDING);
+
+        for (String cursor : List.of("not a cursor!", PageCursor.encode("yesterday", 1L), PageCursor.encode(noon))) {
+            assertThatThrownBy(() -> reservationService.viewReservations(principal, restaurant.getId(),
+                    null, null, null, cursor, 10))
+                    .isInstanceOfSatisfying(GlobalException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(INVALID_CURSOR));
+        }
+    }
+
+    private ReservationEntity reserve(LocalDateTime time, ReservationStatus status) {
+        return reservationRepository.save(ReservationEntity.builder()
+                .customerEntity(customer).managerEntity(manager).restaurantEntity(restaurant)
+                .peopleCount(2).reservationTime(time).status(status).build());
+    }
+}
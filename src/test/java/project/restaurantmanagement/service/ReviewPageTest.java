@@ -0,0 +1,165 @@
+package project.restaurantmanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.TestFixtures;
+import project.restaurantmanagement.dto.ReviewDto;
+import project.restaurantmanagement.dto.ReviewPageDto;
+import project.restaurantmanagement.entity.CustomerEntity;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.entity.ReviewEntity;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.model.PageCursor;
+import project.restaurantmanagement.model.type.ReviewSort;
+import project.restaurantmanagement.repository.ReviewRepository;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static project.restaurantmanagement.exception.ErrorCode.INVALID_CURSOR;
+import static project.restaurantmanagement.exception.ErrorCode.INVALID_RATING_FILTER;
+import static project.restaurantmanagement.model.type.Rating.STAR_5;
+import static project.restaurantmanagement.model.type.ReviewSort.RATING;
+import static project.restaurantmanagement.model.type.ReviewSort.RECENT;
+
+/**
+ * 매장 리뷰 목록의 최신순/평점순 키셋 페이지네이션이 작성 시각과 평점이 같은 리뷰까지 빠짐없이 한 번씩 순서대로 반환하고,
+ * 평점 필터와 잘못된 커서를 올바르게 처리하는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewPageTest {
+
+    private static final Comparator<ReviewEntity> RECENT_ORDER =
+            Comparator.comparing(ReviewEntity::getCreatedAt).thenComparing(ReviewEntity::getId).reversed();
+    private static final Comparator<ReviewEntity> RATING_ORDER =
+            Comparator.comparingDouble(ReviewEntity::getRating).reversed().thenComparing(RECENT_ORDER);
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserPrincipal principal;
+    private ManagerEntity manager;
+    private CustomerEntity customer;
+    private RestaurantEntity restaurant;
+    private LocalDateTime base;
+    private List<ReviewEntity> reviews;
+
+    @BeforeEach
+    void setUp() {
+        manager = fixtures.manager("review-page");
+        customer = fixtures.customer("review-page");
+        restaurant = fixtures.restaurant("review page restaurant", manager);
+
+        principal = TestFixtures.principal(manager);
+        base = LocalDateTime.now().minusDays(1).withNano(0);
+
+        // 작성 시각과 평점이 같은 리뷰가 페이지 경계에 걸치도록 둠
+        reviews = new ArrayList<>();
+        reviews.add(review(5.0, base));
+        reviews.add(review(5.0, base));
+        reviews.add(review(5.0, base));
+        reviews.add(review(3.0, base));
+        reviews.add(review(3.0, base.minusHours(1)));
+        reviews.add(review(5.0, base.minusHours(2)));
+        reviews.add(review(1.0, base.plusHours(1)));
+    }
+
+    @Test
+    void recentWalkReturnsEveryReviewOnceInOrder() {
+        List<Long> expected = reviews.stream().sorted(RECENT_ORDER).map(ReviewEntity::getId).toList();
+
+        assertThat(walk(RECENT, null, 2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void ratingWalkReturnsEveryReviewOnceInOrder() {
+        List<Long> expected = reviews.stream().sorted(RATING_ORDER).map(ReviewEntity::getId).toList();
+
+        assertThat(walk(RATING, null, 2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void starFilterAppliesAcrossPages() {
+        List<Long> expected = reviews.stream()
+                .filter(review -> review.getRating() == 5.0)
+                .sorted(RECENT_ORDER)
+                .map(ReviewEntity::getId)
+                .toList();
+
+        assertThat(walk(RECENT, 5, 1)).containsExactlyElementsOf(expected);
+        assertThat(walk(RATING, 5, 3)).containsExactlyElementsOf(expected);
+
+        ReviewPageDto page = reviewService.viewReviews(principal, restaurant.getId(), RECENT, 5, null, 10);
+        assertThat(page.getReviews()).extracting(ReviewDto::getRating).containsOnly(STAR_5);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsStarOutOfRange() {
+        for (int star : new int[]{0, 6}) {
+            assertThatThrownBy(() -> reviewService.viewReviews(principal, restaurant.getId(), RECENT, star, null, 10))
+                    .isInstanceOfSatisfying(GlobalException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(INVALID_RATING_FILTER));
+        }
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        // 최신순 커서를 평점순에 쓰거나, 값이 빠지거나 해석할 수 없는 커서
+        String recentCursor = PageCursor.encode(base, 1L);
+        List<Object[]> cases = List.of(
+                new Object[]{RATING, recentCursor},
+                new Object[]{RECENT, PageCursor.encode(base)},
+                new Object[]{RECENT, "not a cursor!"});
+
+        for (Object[] invalid : cases) {
+            assertThatThrownBy(() -> reviewService.viewReviews(principal, restaurant.getId(),
+                    (ReviewSort) invalid[0], null, (String) invalid[1], 10))
+                    .isInstanceOfSatisfying(GlobalException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(INVALID_CURSOR));
+        }
+    }
+
+    private List<Long> walk(ReviewSort sort, Integer star, int size) {
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            ReviewPageDto page = reviewService.viewReviews(principal, restaurant.getId(), sort, star, cursor, size);
+            assertThat(page.getReviews()).hasSizeLessThanOrEqualTo(size);
+            page.getReviews().forEach(review -> walked.add(review.getReviewId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return walked;
+    }
+
+    /**
+     * 작성 시각은 저장 시 자동으로 채워지므로, 같은 시각을 만들기 위해 저장 후 직접 덮어씁니다.
+     */
+    private ReviewEntity review(double rating, LocalDateTime createdAt) {
+        ReviewEntity saved = reviewRepository.save(ReviewEntity.builder()
+                .title("title").comment("comment").rating(rating)
+                .customerEntity(customer).managerEntity(manager).restaurantEntity(restaurant).build());
+        jdbcTemplate.update("update review set created_at = ? where review_id = ?", createdAt, saved.getId());
+        return reviewRepository.findById(saved.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,116 @@
+package project.restaurantmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import project.restaurantmanagement.dto.RegisterReservationDto;
+import project.restaurantmanagement.entity.CustomerEntity;
+import project.restaurantmanagement.entity.ManagerEntity;
+import project.restaurantmanagement.entity.RestaurantEntity;
+import project.restaurantmanagement.entity.RestaurantSlotEntity;
+import project.restaurantmanagement.exception.GlobalException;
+import project.restaurantmanagement.repository.*;
+import project.restaurantmanagement.security.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static project.restaurantmanagement.exception.ErrorCode.RESERVATION_SLOT_FULL;
+import static project.restaurantmanagement.model.type.UserType.CUSTOMER;
+import static project.restaurantmanagement.model.type.UserType.MANAGER;
+
+/**
+ * 같은 시간대에 동시에 많은 예약 요청이 들어와도 좌석 수를 초과해 예약되지 않는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatInventoryConcurrencyTest {
+
+    private static final int SEAT_CAPACITY = 20;
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RestaurantSlotRepository restaurantSlotRepository;
+
+    @Test
+    void concurrentReservationsNeverOverbookSlot() throws Exception {
+        ManagerEntity manager = managerRepository.save(ManagerEntity.builder()
+                .email("slot-manager@test.com").name("manager").userType(MANAGER).build());
+        CustomerEntity customer = customerRepository.save(CustomerEntity.builder()
+                .email("slot-customer@test.com").name("customer").userType(CUSTOMER).build());
+        RestaurantEntity restaurant = restaurantRepository.save(RestaurantEntity.builder()
+                .name("slot restaurant").managerEntity(manager).seatCapacity(SEAT_CAPACITY).slotMinutes(30).build());
+
+        UserPrincipal principal = new UserPrincipal(customer.getId(), customer.getEmail(), CUSTOMER, 0L);
+        LocalDateTime slotStart = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0).withSecond(0).withNano(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            // 같은 30분 시간대 안의 서로 다른 시각, 1~3명
+            RegisterReservationDto request = RegisterReservationDto.builder()
+                    .restaurantId(restaurant.getId())
+                    .peopleCount(1 + i % 3)
+                    .reservationTime(slotStart.plusMinutes(i % 30))
+                    .build();
+
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    customerService.createReservation(request, principal);
+                    succeeded.incrementAndGet();
+                } catch (GlobalException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(RESERVATION_SLOT_FULL);
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        RestaurantSlotEntity slot = restaurantSlotRepository.findAll().stream()
+                .filter(s -> s.getRestaurantId().equals(restaurant.getId()))
+                .findFirst()
+                .orElseThrow();
+        int bookedSeats = reservationRepository.findAll().stream()
+                .filter(r -> r.getRestaurantEntity().getId().equals(restaurant.getId()))
+                .mapToInt(r -> r.getPeopleCount())
+                .sum();
+
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(REQUESTS);
+        assertThat(slot.getSlotTime()).isEqualTo(slotStart);
+        assertThat(slot.getReservedSeats()).isLessThanOrEqualTo(SEAT_CAPACITY);
+        assertThat(slot.getReservedSeats()).isPositive();
+        assertThat(bookedSeats).isEqualTo(slot.getReservedSeats());
+    }
+}